@@ -0,0 +1,53 @@
+package me.blvckbytes.bukkitevaluable.benchmarks;
+
+import me.blvckbytes.bbconfigmapper.ConfigMapper;
+import me.blvckbytes.bbconfigmapper.YamlConfig;
+import me.blvckbytes.bukkitevaluable.BukkitValueConverterRegistry;
+import me.blvckbytes.bukkitevaluable.BukkitValueInterpreter;
+import me.blvckbytes.bukkitevaluable.StubServer;
+import me.blvckbytes.bukkitevaluable.applicator.EvaluableApplicator;
+import me.blvckbytes.bukkitevaluable.applicator.LegacyEvaluableApplicator;
+import me.blvckbytes.bukkitevaluable.section.ItemStackSection;
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+public class BenchmarkFixtures {
+
+  public static final EvaluableApplicator APPLICATOR = new LegacyEvaluableApplicator();
+
+  private static final Logger LOGGER = Logger.getLogger("BenchmarkFixtures");
+
+  /**
+   * Maps the resource of the given name onto an item-stack section, through the very converters of the config-manager
+   */
+  public static ItemStackSection loadItemSection(String resourceName) throws Exception {
+    StubServer.install();
+
+    var evaluator = new GPEEE(LOGGER);
+    evaluator.setBaseEnvironment(new EvaluationEnvironmentBuilder().withValueInterpreter(new BukkitValueInterpreter()));
+
+    var config = new YamlConfig(evaluator, LOGGER, "$");
+
+    try (
+      var resourceStream = Objects.requireNonNull(BenchmarkFixtures.class.getResourceAsStream("/" + resourceName));
+      var resourceReader = new InputStreamReader(resourceStream, StandardCharsets.UTF_8)
+    ) {
+      config.load(resourceReader);
+    }
+
+    return new ConfigMapper(config, LOGGER, evaluator, new BukkitValueConverterRegistry(APPLICATOR)).mapSection(null, ItemStackSection.class);
+  }
+
+  public static IEvaluationEnvironment makeShopEnvironment(int slot) {
+    return new EvaluationEnvironmentBuilder()
+      .withStaticVariable("price", 100 + slot % 4)
+      .withStaticVariable("stock", 1 + slot % 3)
+      .build();
+  }
+}
@@ -0,0 +1,43 @@
+package me.blvckbytes.bukkitevaluable.benchmarks;
+
+import me.blvckbytes.bukkitevaluable.BukkitValueInterpreter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColorTranslationBenchmark {
+
+  @Param({ "PLAIN", "LEGACY", "HEX", "VARYING" })
+  public String inputKind;
+
+  private BukkitValueInterpreter interpreter;
+  private String input;
+  private int counter;
+
+  @Setup
+  public void setup() {
+    interpreter = new BukkitValueInterpreter();
+
+    input = switch (inputKind) {
+      case "PLAIN" -> "A lore line without any color-sequences at all";
+      case "LEGACY" -> "&7A lore line with &dlegacy &7color-sequences&8!";
+      case "HEX" -> "&#FFAA00A lore line with &#00AAFFhex &7color-sequences";
+      default -> "&7Price: &e";
+    };
+  }
+
+  @Benchmark
+  public String asString() {
+    // Varying inputs simulate values which are built by expressions and thus rarely recur
+    if (inputKind.equals("VARYING"))
+      return interpreter.asString(input + (counter++ & 0xFFFF));
+
+    return interpreter.asString(input);
+  }
+}
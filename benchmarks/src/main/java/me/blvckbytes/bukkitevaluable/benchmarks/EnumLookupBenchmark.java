@@ -0,0 +1,57 @@
+package me.blvckbytes.bukkitevaluable.benchmarks;
+
+import me.blvckbytes.bukkitevaluable.BukkitEvaluable;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.Color;
+import org.bukkit.inventory.ItemFlag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnumLookupBenchmark {
+
+  @Param({ "false", "true" })
+  public boolean detectIndependence;
+
+  private IEvaluationEnvironment environment;
+  private BukkitEvaluable namedColor, rgbColor, unknownColor, flags;
+
+  @Setup
+  public void setup() {
+    environment = new EvaluationEnvironmentBuilder().build();
+
+    namedColor = new BukkitEvaluable(" Aqua ", null, BenchmarkFixtures.APPLICATOR, detectIndependence);
+    rgbColor = new BukkitEvaluable("255 170 0", null, BenchmarkFixtures.APPLICATOR, detectIndependence);
+    unknownColor = new BukkitEvaluable("aquq", null, BenchmarkFixtures.APPLICATOR, detectIndependence);
+    flags = new BukkitEvaluable(List.of("HIDE_ATTRIBUTES", "hide_enchants", "HIDE_UNBREAKABLE"), null, BenchmarkFixtures.APPLICATOR, detectIndependence);
+  }
+
+  @Benchmark
+  public Color namedBukkitColor() {
+    return namedColor.asBukkitColor(environment);
+  }
+
+  @Benchmark
+  public Color rgbBukkitColor() {
+    return rgbColor.asBukkitColor(environment);
+  }
+
+  @Benchmark
+  public Color unknownBukkitColor() {
+    return unknownColor.asBukkitColor(environment);
+  }
+
+  @Benchmark
+  public Set<ItemFlag> itemFlagSet() {
+    return flags.asEnumerationConstantSet(ItemFlag.class, environment);
+  }
+}
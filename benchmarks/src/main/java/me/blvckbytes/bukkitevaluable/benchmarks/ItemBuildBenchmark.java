@@ -0,0 +1,58 @@
+package me.blvckbytes.bukkitevaluable.benchmarks;
+
+import me.blvckbytes.bukkitevaluable.IItemBuildable;
+import me.blvckbytes.bukkitevaluable.ItemBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemBuildBenchmark {
+
+  private static final int INVENTORY_SIZE = 54;
+
+  private IItemBuildable item;
+  private IItemBuildable cachedItem;
+  private List<IEvaluationEnvironment> environments;
+  private int slot;
+
+  @Setup
+  public void setup() throws Exception {
+    item = BenchmarkFixtures.loadItemSection("shop_item.yml").asItem();
+    cachedItem = ((ItemBuilder) item).copy().enableBuildCache(64);
+
+    environments = new ArrayList<>();
+
+    for (var i = 0; i < INVENTORY_SIZE; ++i)
+      environments.add(BenchmarkFixtures.makeShopEnvironment(i));
+  }
+
+  @Benchmark
+  public ItemStack build() {
+    return item.build(nextEnvironment());
+  }
+
+  @Benchmark
+  public ItemStack buildCached() {
+    return cachedItem.build(nextEnvironment());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(INVENTORY_SIZE)
+  public ItemStack[] buildAll() {
+    return item.buildAll(environments);
+  }
+
+  private IEvaluationEnvironment nextEnvironment() {
+    return environments.get(slot++ % INVENTORY_SIZE);
+  }
+}
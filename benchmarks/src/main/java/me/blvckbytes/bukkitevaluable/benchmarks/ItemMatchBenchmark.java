@@ -0,0 +1,41 @@
+package me.blvckbytes.bukkitevaluable.benchmarks;
+
+import me.blvckbytes.bukkitevaluable.section.ComparisonMismatch;
+import me.blvckbytes.bukkitevaluable.section.ItemStackSection;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemMatchBenchmark {
+
+  private ItemStackSection section;
+  private IEvaluationEnvironment environment;
+  private ItemStack matchingItem, mismatchingItem;
+
+  @Setup
+  public void setup() throws Exception {
+    section = BenchmarkFixtures.loadItemSection("shop_item.yml");
+    environment = BenchmarkFixtures.makeShopEnvironment(0);
+    matchingItem = section.asItem().build(environment);
+    mismatchingItem = section.asItem().build(BenchmarkFixtures.makeShopEnvironment(1));
+  }
+
+  @Benchmark
+  public Set<ComparisonMismatch> describesMatchingItem() {
+    return section.describesItem(matchingItem, null, environment);
+  }
+
+  @Benchmark
+  public Set<ComparisonMismatch> describesMismatchingItem() {
+    return section.describesItem(mismatchingItem, null, environment);
+  }
+}
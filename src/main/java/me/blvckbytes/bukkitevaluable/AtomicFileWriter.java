@@ -0,0 +1,80 @@
+package me.blvckbytes.bukkitevaluable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Writes files (serialized as UTF-8, or as raw bytes) in a way that readers (and file watchers) never observe partial contents: the
+ * contents are serialized into memory first and compared against those on disk, so that unchanged files
+ * are not touched at all, while changed contents are written to a temporary sibling which is then moved
+ * over the target atomically, wherever the file-system supports it.
+ */
+public final class AtomicFileWriter {
+
+  private AtomicFileWriter() {}
+
+  /**
+   * @param file Target file
+   * @param contentsWriter Serializer of the contents, whose writer is flushed and closed afterwards
+   * @return True if the file has been written, false if its contents were already up-to-date
+   */
+  public static boolean writeIfChanged(File file, FUnsafeConsumer<OutputStreamWriter, ? extends Exception> contentsWriter) throws Exception {
+    if (file.exists() && !file.isFile())
+      throw new IllegalStateException("Tried to write file; unexpected directory at " + file);
+
+    var buffer = new ByteArrayOutputStream();
+
+    try (
+      var writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8)
+    ) {
+      contentsWriter.accept(writer);
+    }
+
+    return writeIfChanged(file, buffer.toByteArray());
+  }
+
+  /**
+   * @param file Target file
+   * @param contents Raw contents, written as-is
+   * @return True if the file has been written, false if its contents were already up-to-date
+   */
+  public static boolean writeIfChanged(File file, byte[] contents) throws IOException {
+    if (file.exists() && !file.isFile())
+      throw new IllegalStateException("Tried to write file; unexpected directory at " + file);
+
+    var path = file.toPath();
+
+    if (file.isFile() && file.length() == contents.length && Arrays.equals(Files.readAllBytes(path), contents))
+      return false;
+
+    var parentPath = path.toAbsolutePath().getParent();
+    Files.createDirectories(parentPath);
+
+    // Temporary files do not carry the target's extension, so that they're ignored by the folder watcher
+    var temporaryPath = Files.createTempFile(parentPath, "." + file.getName() + ".", ".tmp");
+
+    try {
+      Files.write(temporaryPath, contents);
+      move(temporaryPath.toFile(), file);
+    } finally {
+      Files.deleteIfExists(temporaryPath);
+    }
+
+    return true;
+  }
+
+  private static void move(File source, File target) throws IOException {
+    try {
+      Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package me.blvckbytes.bukkitevaluable;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Thread-safe, least-recently-used cache of a bounded size. Values are resolved outside
+ * of the lock, so that slow resolvers do not block concurrent lookups of other keys;
+ * keys which resolve to null are not cached.
+ */
+public class BoundedCache<K, V> {
+
+  private final int maximumSize;
+  private final Map<K, V> valueByKey;
+  private final LongAdder hitCount, missCount;
+
+  public BoundedCache(int maximumSize) {
+    if (maximumSize <= 0)
+      throw new IllegalStateException("The maximum size of a cache has to be positive");
+
+    this.maximumSize = maximumSize;
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+
+    this.valueByKey = new LinkedHashMap<>(16, .75F, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > BoundedCache.this.maximumSize;
+      }
+    };
+  }
+
+  public @Nullable V getOrResolve(K key, Function<K, @Nullable V> resolver) {
+    V value;
+
+    synchronized (valueByKey) {
+      value = valueByKey.get(key);
+    }
+
+    if (value != null) {
+      hitCount.increment();
+      return value;
+    }
+
+    missCount.increment();
+    value = resolver.apply(key);
+
+    if (value == null)
+      return null;
+
+    synchronized (valueByKey) {
+      // Another thread may have resolved the same key concurrently; keep the first value
+      var existingValue = valueByKey.putIfAbsent(key, value);
+
+      if (existingValue != null)
+        return existingValue;
+    }
+
+    return value;
+  }
+
+  public void clear() {
+    synchronized (valueByKey) {
+      valueByKey.clear();
+    }
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public int getSize() {
+    synchronized (valueByKey) {
+      return valueByKey.size();
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Ratio of hits to all lookups, zero if there were no lookups yet
+   */
+  public double getHitRate() {
+    var hits = hitCount.sum();
+    var lookups = hits + missCount.sum();
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+}
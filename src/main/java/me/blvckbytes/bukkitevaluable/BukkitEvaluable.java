@@ -32,8 +32,10 @@ import com.cryptomorin.xseries.particles.XParticle;
 import me.blvckbytes.bbconfigmapper.ConfigValue;
 import me.blvckbytes.bbconfigmapper.ScalarType;
 import me.blvckbytes.bukkitevaluable.applicator.EvaluableApplicator;
+import me.blvckbytes.bukkitevaluable.applicator.MessageDelivery;
 import me.blvckbytes.gpeee.IExpressionEvaluator;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Color;
 import org.bukkit.command.CommandSender;
@@ -43,28 +45,94 @@ import org.bukkit.potion.PotionEffectType;
 import org.bukkit.potion.PotionType;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class BukkitEvaluable extends ConfigValue {
 
-  private static final Map<Class<?>, Map<String, Object>> enumCache;
-
-  static {
-    enumCache = new HashMap<>();
-  }
+  private static final Object UNRESOLVED = new Object();
 
   public final EvaluableApplicator applicator;
 
+  private final boolean environmentIndependent;
+
+  // Typed results of environment-independent values, resolved on first access
+  private volatile @Nullable Object foldedXMaterial = UNRESOLVED;
+  private volatile @Nullable Object foldedEnchantment = UNRESOLVED;
+  private volatile @Nullable Object foldedPotionType = UNRESOLVED;
+  private volatile @Nullable Object foldedBukkitColor = UNRESOLVED;
+  private final @Nullable Map<Class<?>, Set<?>> foldedEnumerationConstantSets;
+
+  // Items of a list-value, which are rendered as individually tracked lines on first request
+  private final @Nullable List<?> lineValues;
+  private volatile @Nullable List<TrackedLine> trackedLines;
+
   public BukkitEvaluable(
     @Nullable Object value,
     @Nullable IExpressionEvaluator evaluator,
     EvaluableApplicator applicator
+  ) {
+    this(value, evaluator, applicator, false);
+  }
+
+  /**
+   * @param detectIndependence Whether to test if the value is independent of the environment it's
+   *                           evaluated in, as to resolve typed results only once; only values which
+   *                           contain no expressions at all qualify, so this is safe for any evaluator
+   */
+  public BukkitEvaluable(
+    @Nullable Object value,
+    @Nullable IExpressionEvaluator evaluator,
+    EvaluableApplicator applicator,
+    boolean detectIndependence
   ) {
     super(value, evaluator);
 
     this.applicator = applicator;
+    this.environmentIndependent = detectIndependence && isEnvironmentIndependent(value);
+    this.foldedEnumerationConstantSets = this.environmentIndependent ? new ConcurrentHashMap<>() : null;
+    this.lineValues = value instanceof List<?> list ? list : null;
+  }
+
+  /**
+   * Renders each item of a list-value as an individual line, where lines are only re-evaluated once
+   * any of the variables they read changed its value, see {@link TrackedLine}; null-lines are skipped
+   * @param output Buffer to append the rendered lines to
+   * @return False if this value is not a list, meaning that no lines have been appended
+   */
+  public boolean appendTrackedLines(List<String> output, IEvaluationEnvironment environment) {
+    if (lineValues == null)
+      return false;
+
+    var lines = trackedLines;
+
+    if (lines == null) {
+      var createdLines = new ArrayList<TrackedLine>(lineValues.size());
+
+      for (var lineValue : lineValues)
+        createdLines.add(new TrackedLine(new BukkitEvaluable(lineValue, evaluator, applicator)));
+
+      // Racing threads create equivalent lines, so either of them may win
+      trackedLines = lines = createdLines;
+    }
+
+    for (var line : lines) {
+      var renderedLine = line.render(environment);
+
+      if (renderedLine != null)
+        output.add(renderedLine);
+    }
+
+    return true;
+  }
+
+  /**
+   * Whether this value has been detected to evaluate to the same result in any environment,
+   * meaning that typed interpretations of it are only resolved once
+   */
+  public boolean isEnvironmentIndependent() {
+    return environmentIndependent;
   }
 
   public TextComponent asTextComponent(IEvaluationEnvironment environment) {
@@ -72,7 +140,17 @@ public class BukkitEvaluable extends ConfigValue {
   }
 
   public @Nullable XMaterial asXMaterial(IEvaluationEnvironment environment) {
-    return XMaterial.matchXMaterial(asScalar(ScalarType.STRING, environment)).orElse(null);
+    var folded = foldedXMaterial;
+
+    if (folded != UNRESOLVED)
+      return (XMaterial) folded;
+
+    var result = XMaterial.matchXMaterial(asScalar(ScalarType.STRING, environment)).orElse(null);
+
+    if (environmentIndependent)
+      foldedXMaterial = result;
+
+    return result;
   }
 
   public @Nullable XSound asXSound(IEvaluationEnvironment environment) {
@@ -84,11 +162,35 @@ public class BukkitEvaluable extends ConfigValue {
   }
 
   public @Nullable Enchantment asEnchantment(IEvaluationEnvironment environment) {
+    var folded = foldedEnchantment;
+
+    if (folded != UNRESOLVED)
+      return (Enchantment) folded;
+
     XEnchantment xEnchantment = XEnchantment.matchXEnchantment(asScalar(ScalarType.STRING, environment)).orElse(null);
-    return xEnchantment == null ? null : xEnchantment.getEnchant();
+    var result = xEnchantment == null ? null : xEnchantment.getEnchant();
+
+    if (environmentIndependent)
+      foldedEnchantment = result;
+
+    return result;
   }
 
   public @Nullable PotionType asPotionType(IEvaluationEnvironment environment) {
+    var folded = foldedPotionType;
+
+    if (folded != UNRESOLVED)
+      return (PotionType) folded;
+
+    var result = resolvePotionType(environment);
+
+    if (environmentIndependent)
+      foldedPotionType = result;
+
+    return result;
+  }
+
+  private @Nullable PotionType resolvePotionType(IEvaluationEnvironment environment) {
     String stringValue = asScalar(ScalarType.STRING, environment);
 
     // Try to get the abstracted type
@@ -116,6 +218,20 @@ public class BukkitEvaluable extends ConfigValue {
   }
 
   public @Nullable Color asBukkitColor(IEvaluationEnvironment environment) {
+    var folded = foldedBukkitColor;
+
+    if (folded != UNRESOLVED)
+      return (Color) folded;
+
+    var result = resolveBukkitColor(environment);
+
+    if (environmentIndependent)
+      foldedBukkitColor = result;
+
+    return result;
+  }
+
+  private @Nullable Color resolveBukkitColor(IEvaluationEnvironment environment) {
     String stringValue = asScalar(ScalarType.STRING, environment);
 
     // Try to parse an enum name
@@ -150,7 +266,26 @@ public class BukkitEvaluable extends ConfigValue {
     return parseEnum(enumerationClass, asScalar(ScalarType.STRING, environment));
   }
 
+  /**
+   * Parses all items of this value into their constants, where unknown items are skipped. The
+   * result of environment-independent values is shared between calls and thus unmodifiable.
+   */
+  @SuppressWarnings("unchecked")
   public <T> Set<T> asEnumerationConstantSet(Class<T> enumerationClass, IEvaluationEnvironment environment) {
+    if (foldedEnumerationConstantSets == null)
+      return resolveEnumerationConstantSet(enumerationClass, environment);
+
+    var folded = foldedEnumerationConstantSets.get(enumerationClass);
+
+    if (folded != null)
+      return (Set<T>) folded;
+
+    var result = Collections.unmodifiableSet(resolveEnumerationConstantSet(enumerationClass, environment));
+    foldedEnumerationConstantSets.put(enumerationClass, result);
+    return result;
+  }
+
+  private <T> Set<T> resolveEnumerationConstantSet(Class<T> enumerationClass, IEvaluationEnvironment environment) {
     Set<String> values = asSet(ScalarType.STRING, environment);
     Set<T> constants = new HashSet<>();
 
@@ -167,60 +302,53 @@ public class BukkitEvaluable extends ConfigValue {
   }
 
   //=========================================================================//
-  //                               Enum Lookup                               //
+  //                             Constant Folding                            //
   //=========================================================================//
 
   /**
-   * Parses an "enum" from either true enum constants or static self-typed
-   * constant declarations within the specified class
-   * @param type Target type class
-   * @param value String value to parse
-   * @return Optional constant, empty if there was no such constant
+   * Checks whether the value contains no expressions at all. Expressions are never executed
+   * ahead of time, as even those which read no variables may call functions which are not
+   * pure (time, randomness, online players, etc.) and must thus not be folded permanently
    */
-  @SuppressWarnings("unchecked")
-  private static <T> @Nullable T parseEnum(Class<T> type, String value) {
-    value = value.trim().toLowerCase(Locale.ROOT);
-
-    Optional<Object> cacheLookup = performEnumCacheLookup(type, value);
-    Object result = null;
-
-    if (cacheLookup.isPresent())
-      return (T) cacheLookup.get();
+  private static boolean isEnvironmentIndependent(@Nullable Object value) {
+    return !containsExpression(value);
+  }
 
-    // Parse enums
-    if (type.isEnum()) {
-      for (T enumConstant : type.getEnumConstants()) {
-        if (!((Enum<?>) enumConstant).name().toLowerCase().equals(value))
-          continue;
+  private static boolean containsExpression(@Nullable Object value) {
+    if (value instanceof AExpression)
+      return true;
 
-        result = enumConstant;
-        break;
+    if (value instanceof Collection<?> collection) {
+      for (var item : collection) {
+        if (containsExpression(item))
+          return true;
       }
     }
 
-    // Parse classes with static constants
-    else {
-      try {
-        List<Field> constants = Arrays.stream(type.getDeclaredFields())
-          .filter(field -> field.getType().equals(type) && Modifier.isStatic(field.getModifiers()))
-          .toList();
-
-        for (Field constant : constants) {
-          if (!constant.getName().toLowerCase().equals(value))
-            continue;
-
-          result = constant.get(null);
-          break;
-        }
-      } catch (Exception ex) {
-        ex.printStackTrace();
+    if (value instanceof Map<?, ?> map) {
+      for (var entry : map.entrySet()) {
+        if (containsExpression(entry.getKey()) || containsExpression(entry.getValue()))
+          return true;
       }
     }
 
-    if (result != null)
-      cacheEnumLookup(type, value, result);
+    return false;
+  }
+
+  //=========================================================================//
+  //                               Enum Lookup                               //
+  //=========================================================================//
 
-    return (T) result;
+  /**
+   * Parses an "enum" from either true enum constants or static self-typed
+   * constant declarations within the specified class
+   * @param type Target type class
+   * @param value String value to parse
+   * @return Optional constant, empty if there was no such constant
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> @Nullable T parseEnum(Class<T> type, String value) {
+    return (T) ConstantLookupTable.of(type).lookup(value);
   }
 
   //=========================================================================//
@@ -238,24 +366,56 @@ public class BukkitEvaluable extends ConfigValue {
     applicator.setLore(meta, this, environment, override);
   }
 
+  public void appendLore(List<String> loreLines, IEvaluationEnvironment environment) {
+    applicator.appendLore(loreLines, this, environment);
+  }
+
   public void sendMessage(CommandSender receiver, IEvaluationEnvironment environment) {
     applicator.sendMessage(receiver, this, environment);
   }
 
+  public void sendMessage(CommandSender receiver, IEvaluationEnvironment environment, MessageDelivery delivery) {
+    applicator.sendMessage(receiver, this, environment, delivery);
+  }
+
   public void sendActionBarMessage(CommandSender receiver, IEvaluationEnvironment environment) {
     applicator.sendActionBarMessage(receiver, this, environment);
   }
 
-  private static Optional<Object> performEnumCacheLookup(Class<?> type, String value) {
-    Map<String, Object> constantCache = enumCache.get(type);
+  public void broadcastMessage(Collection<? extends CommandSender> receivers, IEvaluationEnvironment environment) {
+    applicator.broadcastMessage(receivers, this, environment);
+  }
+
+  public void broadcastMessage(Collection<? extends CommandSender> receivers, IEvaluationEnvironment environment, MessageDelivery delivery) {
+    applicator.broadcastMessage(receivers, this, environment, delivery);
+  }
+
+  public <K> void broadcastMessage(
+    Collection<? extends CommandSender> receivers,
+    Function<? super CommandSender, ? extends K> keyByReceiver,
+    Function<? super K, ? extends IEvaluationEnvironment> environmentByKey
+  ) {
+    applicator.broadcastMessage(receivers, this, keyByReceiver, environmentByKey);
+  }
 
-    if (constantCache != null && constantCache.containsKey(value))
-      return Optional.of(constantCache.get(value));
+  public <K> void broadcastMessage(
+    Collection<? extends CommandSender> receivers,
+    Function<? super CommandSender, ? extends K> keyByReceiver,
+    Function<? super K, ? extends IEvaluationEnvironment> environmentByKey,
+    MessageDelivery delivery
+  ) {
+    applicator.broadcastMessage(receivers, this, keyByReceiver, environmentByKey, delivery);
+  }
 
-    return Optional.empty();
+  public void broadcastActionBarMessage(Collection<? extends CommandSender> receivers, IEvaluationEnvironment environment) {
+    applicator.broadcastActionBarMessage(receivers, this, environment);
   }
 
-  private static void cacheEnumLookup(Class<?> type, String value, Object constant) {
-    enumCache.computeIfAbsent(type, key -> new HashMap<>()).put(value, constant);
+  public <K> void broadcastActionBarMessage(
+    Collection<? extends CommandSender> receivers,
+    Function<? super CommandSender, ? extends K> keyByReceiver,
+    Function<? super K, ? extends IEvaluationEnvironment> environmentByKey
+  ) {
+    applicator.broadcastActionBarMessage(receivers, this, keyByReceiver, environmentByKey);
   }
 }
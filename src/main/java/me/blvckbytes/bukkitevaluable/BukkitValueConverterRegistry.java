@@ -0,0 +1,76 @@
+package me.blvckbytes.bukkitevaluable;
+
+import me.blvckbytes.bbconfigmapper.FValueConverter;
+import me.blvckbytes.bbconfigmapper.IValueConverterRegistry;
+import me.blvckbytes.bukkitevaluable.applicator.EvaluableApplicator;
+import me.blvckbytes.bukkitevaluable.section.ItemStackSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts mapped values into the types which this library adds on top of the mapper, exactly
+ * as the {@link ConfigManager} does; usable on its own wherever sections are mapped without a manager
+ */
+public class BukkitValueConverterRegistry implements IValueConverterRegistry {
+
+  private final EvaluableApplicator applicator;
+
+  public BukkitValueConverterRegistry(EvaluableApplicator applicator) {
+    this.applicator = applicator;
+  }
+
+  @Override
+  public @Nullable Class<?> getRequiredTypeFor(Class<?> type) {
+    if (type == BukkitEvaluable.class)
+      return Object.class;
+
+    if (type == IItemBuildable.class)
+      return ItemStackSection.class;
+
+    return null;
+  }
+
+  @Override
+  public @Nullable FValueConverter getConverterFor(Class<?> type) {
+    if (type == BukkitEvaluable.class)
+      return (value, evaluator) -> new BukkitEvaluable(translateLiteralColors(value), evaluator, applicator, true);
+
+    if (type == IItemBuildable.class)
+      return (value, evaluator) -> ((ItemStackSection) value).asItem();
+
+    return null;
+  }
+
+  /**
+   * Translates the colors of all literal strings within the value once, ahead of time, as to
+   * relieve the value interpreter from having to do so on every read; expressions are left as-is
+   */
+  private static @Nullable Object translateLiteralColors(@Nullable Object value) {
+    if (value instanceof String string)
+      return string.indexOf('&') < 0 ? string : BukkitValueInterpreter.enableColors(string);
+
+    if (value instanceof List<?> list) {
+      var result = new ArrayList<>(list.size());
+
+      for (var item : list)
+        result.add(translateLiteralColors(item));
+
+      return result;
+    }
+
+    if (value instanceof Map<?, ?> map) {
+      var result = new LinkedHashMap<>();
+
+      for (var entry : map.entrySet())
+        result.put(entry.getKey(), translateLiteralColors(entry.getValue()));
+
+      return result;
+    }
+
+    return value;
+  }
+}
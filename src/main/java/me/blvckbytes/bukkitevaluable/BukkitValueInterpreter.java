@@ -5,9 +5,26 @@ import org.jetbrains.annotations.Nullable;
 
 public class BukkitValueInterpreter extends StandardValueInterpreter {
 
+  private static final int MAX_RETAINED_BUFFER_CAPACITY = 4096;
+
+  private static final ThreadLocal<StringBuilder> translationBuffer = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
   @Override
   public String asString(@Nullable Object value) {
-    return enableColors(super.asString(value));
+    return translateColors(super.asString(value));
+  }
+
+  /**
+   * Translates all {@code &}-color-sequences as well as {@code &#RRGGBB}-hex-sequences of the input
+   * into their {@code §}-notation, where inputs without any {@code &} are returned as-is
+   */
+  public static String translateColors(String input) {
+    // Literals have already been translated while mapping, so only rendered strings end up here, which
+    // rarely recur verbatim; translating them directly beats memoizing them in a high-churn map
+    if (input.indexOf('&') < 0)
+      return input;
+
+    return enableColors(input);
   }
 
   private static boolean isColorChar(char c) {
@@ -18,9 +35,17 @@ public class BukkitValueInterpreter extends StandardValueInterpreter {
     return (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || (c >= '0' && c <= '9');
   }
 
-  private static String enableColors(String input) {
+  static String enableColors(String input) {
     var inputLength = input.length();
-    var result = new StringBuilder(inputLength);
+    var result = translationBuffer.get();
+
+    // Don't keep huge buffers around after having translated an unusually long input
+    if (result.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+      result = new StringBuilder(Math.max(inputLength, 128));
+      translationBuffer.set(result);
+    }
+
+    result.setLength(0);
 
     for (var charIndex = 0; charIndex < inputLength; ++charIndex) {
       var currentChar = input.charAt(charIndex);
@@ -0,0 +1,141 @@
+package me.blvckbytes.bukkitevaluable;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches a folder and all of its subfolders, including those created later on, for created or modified
+ * files on a dedicated thread. Once no further change occurred for the debounce period, the paths of all files
+ * which changed within a burst of writes are reported relative to the folder, separated by forward slashes.
+ */
+public class ConfigFolderWatcher implements AutoCloseable {
+
+  private final Path folder;
+  private final WatchService watchService;
+  private final Map<WatchKey, Path> directoryByKey;
+  private final long debounceMillis;
+  private final Logger logger;
+  private final Consumer<Set<String>> changeHandler;
+  private final Thread thread;
+
+  public ConfigFolderWatcher(
+    Path folder,
+    long debounceMillis,
+    Logger logger,
+    Consumer<Set<String>> changeHandler
+  ) throws IOException {
+    this.folder = folder;
+    this.debounceMillis = debounceMillis;
+    this.logger = logger;
+    this.changeHandler = changeHandler;
+    this.directoryByKey = new HashMap<>();
+
+    this.watchService = folder.getFileSystem().newWatchService();
+    registerTree(folder, null);
+
+    this.thread = new Thread(this::watch, "ConfigFolderWatcher-" + folder.getFileName());
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  private void watch() {
+    var pendingFilePaths = new HashSet<String>();
+
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        var key = pendingFilePaths.isEmpty()
+          ? watchService.take()
+          : watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+
+        // No more changes within the debounce period, the burst is over
+        if (key == null) {
+          var changedFilePaths = Set.copyOf(pendingFilePaths);
+          pendingFilePaths.clear();
+
+          try {
+            changeHandler.accept(changedFilePaths);
+          } catch (Exception e) {
+            logger.log(Level.SEVERE, "Could not handle changes of the files " + changedFilePaths, e);
+          }
+
+          continue;
+        }
+
+        var directory = directoryByKey.get(key);
+
+        for (var event : key.pollEvents()) {
+          if (directory == null || !(event.context() instanceof Path name))
+            continue;
+
+          var path = directory.resolve(name);
+
+          if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+            try {
+              registerTree(path, pendingFilePaths);
+            } catch (IOException e) {
+              logger.log(Level.SEVERE, "Could not watch the newly created folder " + path, e);
+            }
+
+            continue;
+          }
+
+          pendingFilePaths.add(toRelativePath(path));
+        }
+
+        // Keys become invalid once their directory has been deleted
+        if (!key.reset()) {
+          directoryByKey.remove(key);
+
+          if (directoryByKey.isEmpty())
+            break;
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException ignored) {}
+  }
+
+  /**
+   * Registers the directory and all of its subdirectories
+   * @param existingFilePaths Output for the relative paths of all files which already exist within the tree, as
+   *                          they may have been written before the tree could be registered; null to skip them
+   */
+  private void registerTree(Path directory, @Nullable Set<String> existingFilePaths) throws IOException {
+    Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path visitedDirectory, BasicFileAttributes attributes) throws IOException {
+        var key = visitedDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        directoryByKey.put(key, visitedDirectory);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+        if (existingFilePaths != null)
+          existingFilePaths.add(toRelativePath(file));
+
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private String toRelativePath(Path path) {
+    return folder.relativize(path).toString().replace(File.separatorChar, '/');
+  }
+
+  @Override
+  public void close() throws IOException {
+    thread.interrupt();
+    watchService.close();
+  }
+}
@@ -2,6 +2,7 @@ package me.blvckbytes.bukkitevaluable;
 
 import me.blvckbytes.bbconfigmapper.sections.AConfigSection;
 import me.blvckbytes.bbconfigmapper.sections.CSIgnore;
+import org.bukkit.Bukkit;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class ConfigKeeper<T extends AConfigSection> {
 
@@ -18,7 +20,9 @@ public class ConfigKeeper<T extends AConfigSection> {
   private final Class<T> rootSectionType;
   private final Map<ReloadPriority, List<Runnable>> reloadListenersByPriority;
 
-  public T rootSection;
+  private @Nullable CompletableFuture<ReloadTimings> pendingReload;
+
+  public volatile T rootSection;
 
   public ConfigKeeper(
     ConfigManager configManager,
@@ -29,7 +33,12 @@ public class ConfigKeeper<T extends AConfigSection> {
     this.fileName = fileName;
     this.rootSectionType = rootSectionType;
     this.reloadListenersByPriority = new HashMap<>();
-    this.rootSection = loadRootSection(true);
+    loadRootSection(true, new ReloadTimings()).run();
+    this.configManager.registerKeeper(this);
+  }
+
+  public String getFileName() {
+    return fileName;
   }
 
   public void registerReloadListener(Runnable listener, ReloadPriority priority) {
@@ -41,27 +50,124 @@ public class ConfigKeeper<T extends AConfigSection> {
   }
 
   public void reload() throws Exception {
-    this.rootSection = loadRootSection(false);
-
-    for (var priority : ReloadPriority.VALUES_IN_CALL_ORDER) {
-      var listeners = reloadListenersByPriority.get(priority);
+    reloadTimed();
+  }
 
-      if (listeners == null)
-        continue;
+  /**
+   * Counterpart of {@link #reload()} which reports the time spent on each stage
+   * @return Timings of all stages, including the calls of reload listeners
+   */
+  public ReloadTimings reloadTimed() throws Exception {
+    var timings = new ReloadTimings();
+    loadRootSection(false, timings).run();
+    callReloadListeners(timings);
+    return timings;
+  }
 
-      for (var listener : listeners)
-        listener.run();
+  /**
+   * Loads and maps a new root section on a worker thread, then swaps it in and calls
+   * all reload listeners on the server thread. While a reload is still pending, further
+   * calls yield the pending reload's future.
+   * @return Future, completed on the server thread with the timings of all stages
+   */
+  public synchronized CompletableFuture<ReloadTimings> reloadAsync() {
+    if (pendingReload != null && !pendingReload.isDone())
+      return pendingReload;
+
+    var future = new CompletableFuture<ReloadTimings>();
+    var plugin = configManager.getPlugin();
+    var scheduler = Bukkit.getScheduler();
+
+    pendingReload = future;
+
+    try {
+      scheduler.runTaskAsynchronously(plugin, () -> {
+        var timings = new ReloadTimings();
+        Runnable swap;
+
+        try {
+          swap = loadRootSection(false, timings);
+        } catch (Throwable e) {
+          future.completeExceptionally(e);
+          return;
+        }
+
+        try {
+          scheduler.runTask(plugin, () -> {
+            try {
+              swap.run();
+              callReloadListeners(timings);
+              future.complete(timings);
+            } catch (Throwable e) {
+              future.completeExceptionally(e);
+            }
+          });
+        } catch (Throwable e) {
+          future.completeExceptionally(e);
+        }
+      });
+    } catch (Throwable e) {
+      future.completeExceptionally(e);
     }
+
+    return future;
   }
 
-  private T loadRootSection(boolean initial) throws Exception {
+  private void callReloadListeners(ReloadTimings timings) {
+    var timer = new StageTimer(timings, configManager.getMetrics(), fileName);
+
+    for (var priority : ReloadPriority.VALUES_IN_CALL_ORDER)
+      callReloadListeners(priority);
+
+    timer.complete(ReloadStage.CALL_LISTENERS);
+  }
+
+  void callReloadListeners(ReloadPriority priority) {
+    var listeners = reloadListenersByPriority.get(priority);
+
+    if (listeners == null)
+      return;
+
+    var start = System.nanoTime();
+
+    for (var listener : listeners)
+      listener.run();
+
+    configManager.getMetrics().recordListeners(priority, System.nanoTime() - start);
+  }
+
+  /**
+   * Loads and maps a new root section without applying it yet, as to allow
+   * multiple keepers to be swapped at once after they all loaded successfully
+   * @return Runnable which swaps in the new root section when invoked
+   */
+  Runnable loadDetachedRootSection(ReloadTimings timings) throws Exception {
+    return loadRootSection(false, timings);
+  }
+
+  /**
+   * Loads and maps a new root section, which is only applied once the returned runnable
+   * is invoked, as to keep the current section if a sibling keeper fails to load
+   * @return Runnable which swaps in the new root section
+   */
+  private Runnable loadRootSection(boolean initial, ReloadTimings timings) throws Exception {
+    var timer = new StageTimer(timings, configManager.getMetrics(), fileName);
+
     // Called in ConfigManager's constructor already on startup
-    if (!initial)
+    if (!initial) {
       this.configManager.loadAndPossiblyMigrateInputFiles();
+      timer.complete(ReloadStage.MIGRATE_INPUTS);
+    }
+
+    var mapper = this.configManager.loadConfig(fileName, timer);
+
+    var result = mapper.mapSection(null, rootSectionType);
+    timer.complete(ReloadStage.MAP_SECTION);
 
-    var result = this.configManager.loadConfig(fileName).mapSection(null, rootSectionType);
     buildAndSetBukkitEvaluableFallbacks(result, new ArrayList<>());
-    return result;
+    timer.complete(ReloadStage.PATCH_FALLBACKS);
+
+    return () -> this.rootSection = result;
   }
 
   /*
@@ -121,6 +227,6 @@ public class ConfigKeeper<T extends AConfigSection> {
 
     fullPath.append(field.getName());
 
-    return new BukkitEvaluable("§cMissing config-key at " + fullPath, null, configManager.getApplicator());
+    return new BukkitEvaluable("§cMissing config-key at " + fullPath, null, configManager.getApplicator(), true);
   }
 }
@@ -34,20 +34,21 @@ import me.blvckbytes.bukkitevaluable.applicator.EvaluableApplicator;
 import me.blvckbytes.bukkitevaluable.applicator.LegacyEvaluableApplicator;
 import me.blvckbytes.bukkitevaluable.functions.Base64ToSkinUrlFunction;
 import me.blvckbytes.bukkitevaluable.functions.SkinUrlToBase64Function;
-import me.blvckbytes.bukkitevaluable.section.ItemStackSection;
 import me.blvckbytes.gpeee.GPEEE;
 import me.blvckbytes.gpeee.IExpressionEvaluator;
 import me.blvckbytes.gpeee.Tuple;
-import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
 import me.blvckbytes.gpeee.parser.expression.AExpression;
+import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -57,21 +58,35 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
   private static final String EXPRESSION_MARKER_SUFFIX = "$";
   private static final String PREPROCESSOR_INPUT_MARKER = "PRE-PROCESSOR-INPUT ";
 
+  public static final int DEFAULT_LOAD_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
   private final Map<String, Tuple<IExpressionEvaluator, IConfigMapper>> mapperByFileName;
   private final Map<String, PreProcessorInput> preProcessorInputByFileName;
 
+  private final Map<String, FileFingerprint> inputFingerprintByFileName;
+  private final Map<String, Integer> inputVersionByFileName;
+  private final Map<String, LoadedConfig> loadedConfigByFileName;
+
+  private final Set<ConfigKeeper<?>> keepers;
+  private final Map<String, Object> fileLockByFileName;
+  private final ConfigMetrics metrics;
+
+  // Bundled resources cannot change while running, so they're only ever read from the jar once
+  private final Map<String, byte[]> bundledConfigByFileName;
+  private @Nullable Map<String, PreProcessorInput> bundledInputByFileName;
+  private @Nullable ConfigFolderWatcher folderWatcher;
+
   private final Logger logger;
   private final Plugin plugin;
 
-  private final AExpressionFunction
-    base64ToSkinUrlFunction,
-    skinUrlToBase64Function;
+  private final Base64ToSkinUrlFunction base64ToSkinUrlFunction;
+  private final SkinUrlToBase64Function skinUrlToBase64Function;
 
   private final String folderName;
   private final File folder;
 
-  private final PreProcessor preProcessor;
   private final EvaluableApplicator applicator;
+  private final BukkitValueConverterRegistry converterRegistry;
 
   private final @Nullable Consumer<EvaluationEnvironmentBuilder> baseEnvironmentConsumer;
 
@@ -88,14 +103,21 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
     @Nullable Consumer<EvaluationEnvironmentBuilder> baseEnvironmentConsumer
   ) throws Exception {
     this.applicator = new LegacyEvaluableApplicator();
-    this.mapperByFileName = new HashMap<>();
-    this.preProcessorInputByFileName = new HashMap<>();
+    this.converterRegistry = new BukkitValueConverterRegistry(applicator);
+    this.mapperByFileName = new ConcurrentHashMap<>();
+    this.preProcessorInputByFileName = new ConcurrentHashMap<>();
+    this.inputFingerprintByFileName = new ConcurrentHashMap<>();
+    this.inputVersionByFileName = new ConcurrentHashMap<>();
+    this.loadedConfigByFileName = new ConcurrentHashMap<>();
+    this.keepers = ConcurrentHashMap.newKeySet();
+    this.fileLockByFileName = new ConcurrentHashMap<>();
+    this.metrics = new ConfigMetrics();
+    this.bundledConfigByFileName = new ConcurrentHashMap<>();
     this.baseEnvironmentConsumer = baseEnvironmentConsumer;
 
     this.plugin = plugin;
     this.logger = plugin.getLogger();
     this.folderName = folderName.charAt(0) == '/' ? folderName : ("/" + folderName);
-    this.preProcessor = new PreProcessor();
 
     this.folder = new File(plugin.getDataFolder(), folderName);
 
@@ -114,38 +136,147 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
     return applicator;
   }
 
-  private void loadAndPossiblyMigrateInputFile(@Nullable Path internalPath, File externalFile) throws Exception {
-    var fileName = externalFile.getName().toLowerCase();
+  public Base64ToSkinUrlFunction getBase64ToSkinUrlFunction() {
+    return base64ToSkinUrlFunction;
+  }
+
+  public SkinUrlToBase64Function getSkinUrlToBase64Function() {
+    return skinUrlToBase64Function;
+  }
+
+  public ConfigMetrics getMetrics() {
+    return metrics;
+  }
 
-    PreProcessorInput internalInput = null;
+  public Plugin getPlugin() {
+    return plugin;
+  }
 
-    if (internalPath != null) {
-      internalInput = new PreProcessorInput();
+  void registerKeeper(ConfigKeeper<?> keeper) {
+    keepers.add(keeper);
+  }
 
-      try {
-        var internalFileStream = ConfigManager.class.getResourceAsStream(internalPath.toString());
+  //=========================================================================//
+  //                               Hot Reloading                             //
+  //=========================================================================//
+
+  /**
+   * Starts watching the config folder for changes, where each burst of writes reloads all keepers
+   * which depend on any of the changed files, be it directly or through their pre-processor input.
+   * Loading happens on the watcher's thread, while the new root sections are swapped in and the
+   * listeners of all affected keepers are called in their priority order on the server thread.
+   * @param debounceMillis Quiet period after the last write before reloading
+   */
+  public synchronized void startWatching(long debounceMillis) throws IOException {
+    if (folderWatcher != null)
+      return;
+
+    folderWatcher = new ConfigFolderWatcher(folder.toPath(), debounceMillis, logger, this::handleChangedFiles);
+  }
 
-        if (internalFileStream == null)
-          throw new IllegalStateException("Expected " + internalPath + " to exist within jar");
+  public synchronized void stopWatching() throws IOException {
+    if (folderWatcher == null)
+      return;
 
-        try (
-          var internalFileStreamReader = new InputStreamReader(internalFileStream, Charsets.UTF_8)
-        ) {
-          internalInput.load(internalFileStreamReader);
-        }
-      } catch (PreProcessorInputException e) {
-        throw new IllegalStateException("Conflict " + e.conflict + " occurred on line " + e.lineNumber + " while trying to load " + internalPath + "\n" + e.lineContents);
+    folderWatcher.close();
+    folderWatcher = null;
+  }
+
+  /**
+   * @param changedFilePaths Paths of the changed files, relative to the config folder and separated by forward slashes
+   */
+  private void handleChangedFiles(Set<String> changedFilePaths) {
+    var changedConfigs = new HashSet<String>();
+    var changedInputs = new HashSet<String>();
+
+    for (var changedFilePath : changedFilePaths) {
+      var filePath = changedFilePath.toLowerCase();
+      var fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
+
+      // Read-only outputs of the pre-processor, which are written by loading itself
+      if (fileName.startsWith("result."))
+        continue;
+
+      if (fileName.endsWith(".txt")) {
+        // Pre-processor inputs are only ever read from the top level of the folder
+        if (fileName.equals(filePath))
+          changedInputs.add(fileName);
+      }
+
+      else if (fileName.endsWith(".yml") || fileName.endsWith(".yaml"))
+        changedConfigs.add(filePath);
+    }
+
+    if (changedConfigs.isEmpty() && changedInputs.isEmpty())
+      return;
+
+    var affectedKeepers = new ArrayList<ConfigKeeper<?>>();
+    var reloadRunnables = new ArrayList<Runnable>();
+    var timings = new ReloadTimings();
+
+    try {
+      var inputVersionsBefore = new HashMap<>(inputVersionByFileName);
+
+      loadAndPossiblyMigrateInputFiles();
+
+      // Writes which didn't alter the contents (touching, saving without changes) are of no interest
+      changedInputs.removeIf(inputName -> Objects.equals(inputVersionsBefore.get(inputName), inputVersionByFileName.get(inputName)));
+
+      for (var keeper : keepers) {
+        if (!isKeeperAffected(keeper, changedConfigs, changedInputs))
+          continue;
+
+        reloadRunnables.add(keeper.loadDetachedRootSection(timings));
+        affectedKeepers.add(keeper);
+      }
+    } catch (Exception e) {
+      logger.log(Level.SEVERE, "Could not hot-reload after changes of " + changedFilePaths, e);
+      return;
+    }
+
+    if (affectedKeepers.isEmpty())
+      return;
+
+    Bukkit.getScheduler().runTask(plugin, () -> {
+      reloadRunnables.forEach(Runnable::run);
+
+      for (var priority : ReloadPriority.VALUES_IN_CALL_ORDER) {
+        for (var keeper : affectedKeepers)
+          keeper.callReloadListeners(priority);
       }
 
+      logger.info("Hot-reloaded " + affectedKeepers.size() + " configuration(s) after changes of " + changedFilePaths + " (" + timings + ")");
+    });
+  }
+
+  private boolean isKeeperAffected(ConfigKeeper<?> keeper, Set<String> changedConfigs, Set<String> changedInputs) throws IOException {
+    var fileName = keeper.getFileName().toLowerCase();
+    var loadedConfig = loadedConfigByFileName.get(fileName);
+
+    if (loadedConfig == null)
+      return true;
+
+    // Configs may reside within subfolders, so they're matched by their relative path rather than by their name
+    if (changedConfigs.contains(fileName.replace('\\', '/')) && !loadedConfig.fingerprint.isUnchanged(new File(folder, keeper.getFileName())))
+      return true;
+
+    return loadedConfig.preProcessorFileName != null && changedInputs.contains(loadedConfig.preProcessorFileName.toLowerCase());
+  }
+
+  private void loadAndPossiblyMigrateInputFile(@Nullable PreProcessorInput internalInput, File externalFile) throws Exception {
+    var fileName = externalFile.getName().toLowerCase();
+
+    // The internal input cannot change while running, so an unchanged external file needs no migration
+    var previousFingerprint = inputFingerprintByFileName.get(fileName);
 
+    if (previousFingerprint != null && preProcessorInputByFileName.containsKey(fileName) && previousFingerprint.isUnchanged(externalFile))
+      return;
+
+    if (internalInput != null) {
       if (!externalFile.exists()) {
-        try (
-          var writer = new FileWriter(externalFile, Charsets.UTF_8)
-        ) {
-          internalInput.save(writer);
-        }
+        AtomicFileWriter.writeIfChanged(externalFile, internalInput::save);
 
-        preProcessorInputByFileName.put(fileName, internalInput);
+        putPreProcessorInput(fileName, internalInput, externalFile);
         return;
       }
     }
@@ -165,23 +296,35 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
       if (internalInput != null) {
         var numExtendedKeys = externalInput.migrateTo(internalInput);
 
-        if (numExtendedKeys > 0)
+        if (numExtendedKeys > 0) {
           this.logger.log(Level.INFO, "Extended " + numExtendedKeys + " new keys on the pre-processor input " + fileName);
 
-        try (
-          var writer = new FileWriter(externalFile, Charsets.UTF_8)
-        ) {
-          externalInput.save(writer);
+          AtomicFileWriter.writeIfChanged(externalFile, externalInput::save);
         }
       }
     } catch (PreProcessorInputException e) {
       throw new IllegalStateException("Conflict " + e.conflict + " occurred on line " + e.lineNumber + " while trying to load " + externalFile + "\n" + e.lineContents);
     }
 
-    preProcessorInputByFileName.put(fileName, externalInput);
+    putPreProcessorInput(fileName, externalInput, externalFile);
   }
 
-  private List<Path> getTextFilesInFolderWithinResources() throws Exception {
+  private void putPreProcessorInput(String fileName, PreProcessorInput input, File externalFile) throws IOException {
+    preProcessorInputByFileName.put(fileName, input);
+    inputFingerprintByFileName.put(fileName, FileFingerprint.of(externalFile));
+
+    // Configs which have been pre-processed by a previous version of this input are now outdated
+    inputVersionByFileName.merge(fileName, 1, Integer::sum);
+  }
+
+  /**
+   * Indexes all pre-processor inputs within the resources-folder of the jar on the first
+   * call, while opening its file-system only once, and hands out the parsed inputs from then on
+   */
+  private synchronized Map<String, PreProcessorInput> getBundledInputs() throws Exception {
+    if (bundledInputByFileName != null)
+      return bundledInputByFileName;
+
     var folderUrl = ConfigManager.class.getResource(folderName);
 
     if (folderUrl == null)
@@ -200,15 +343,16 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
     else
       folderPath = Paths.get(folderUri);
 
-    var result = new ArrayList<Path>();
+    var result = new HashMap<String, PreProcessorInput>();
 
     try (
       var walkStream = Files.walk(folderPath, 1)
     ) {
       for (var walkStreamIterator = walkStream.iterator(); walkStreamIterator.hasNext();) {
         var internalPath = walkStreamIterator.next();
+        var internalFileName = internalPath.getFileName().toString();
 
-        if (!internalPath.getFileName().toString().endsWith(".txt"))
+        if (!internalFileName.endsWith(".txt"))
           continue;
 
         var parent = internalPath.getParent();
@@ -219,19 +363,54 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
         if (!parent.getFileName().toString().equals(folderName.substring(1)))
           continue;
 
-        result.add(internalPath);
+        var internalInput = new PreProcessorInput();
+
+        try (
+          var internalFileReader = Files.newBufferedReader(internalPath, Charsets.UTF_8)
+        ) {
+          internalInput.load(internalFileReader);
+        } catch (PreProcessorInputException e) {
+          throw new IllegalStateException("Conflict " + e.conflict + " occurred on line " + e.lineNumber + " while trying to load " + internalPath + "\n" + e.lineContents);
+        }
+
+        result.put(internalFileName, internalInput);
       }
+    } finally {
+      if (fileSystem != null)
+        fileSystem.close();
     }
 
-    if (fileSystem != null)
-      fileSystem.close();
+    bundledInputByFileName = Collections.unmodifiableMap(result);
+    return bundledInputByFileName;
+  }
+
+  /**
+   * Reads the bundled version of a config from the jar on the first call and hands out its contents from then on
+   */
+  private byte[] getBundledConfig(String fileName) throws IOException {
+    var contents = bundledConfigByFileName.get(fileName);
+
+    if (contents != null)
+      return contents;
+
+    var resourcePath = getPluginResourcePath(fileName);
+
+    try (
+      InputStream resourceStream = this.plugin.getResource(resourcePath)
+    ) {
+      if (resourceStream == null)
+        throw new IllegalStateException("Could not load resource file at " + resourcePath);
+
+      contents = resourceStream.readAllBytes();
+    }
 
-    return result;
+    var existingContents = bundledConfigByFileName.putIfAbsent(fileName, contents);
+    return existingContents == null ? contents : existingContents;
   }
 
-  public void loadAndPossiblyMigrateInputFiles() throws Exception {
-    for (var textFilePath : getTextFilesInFolderWithinResources())
-      loadAndPossiblyMigrateInputFile(textFilePath, new File(folder, textFilePath.getFileName().toString()));
+  public synchronized void loadAndPossiblyMigrateInputFiles() throws Exception {
+    for (var bundledInput : getBundledInputs().entrySet())
+      loadAndPossiblyMigrateInputFile(bundledInput.getValue(), new File(folder, bundledInput.getKey()));
 
     // Allow to load (yet-)unknown files from the folder (obviously without prior migration).
     // This is very useful while creating new translations.
@@ -260,24 +439,12 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
 
   @Override
   public @Nullable Class<?> getRequiredTypeFor(Class<?> type) {
-    if (type == BukkitEvaluable.class)
-      return Object.class;
-
-    if (type == IItemBuildable.class)
-      return ItemStackSection.class;
-
-    return null;
+    return converterRegistry.getRequiredTypeFor(type);
   }
 
   @Override
   public @Nullable FValueConverter getConverterFor(Class<?> type) {
-    if (type == BukkitEvaluable.class)
-      return (value, evaluator) -> new BukkitEvaluable(value, evaluator, applicator);
-
-    if (type == IItemBuildable.class)
-      return (value, evaluator) -> ((ItemStackSection) value).asItem();
-
-    return null;
+    return converterRegistry.getConverterFor(type);
   }
 
   private String getPluginResourcePath(String fileName) {
@@ -285,38 +452,21 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
   }
 
   private int extendConfig(String fileName, YamlConfig config) throws Exception {
-    var resourcePath = getPluginResourcePath(fileName);
+    // Extending may hand out nodes of the bundled config, which are altered by pre-processing
+    // later on, so a fresh instance is parsed off of the contents each time
+    YamlConfig resourceConfig = new YamlConfig(null, this.logger, null);
 
     try (
-      InputStream resourceStream = this.plugin.getResource(resourcePath)
+      var resourceReader = new InputStreamReader(new ByteArrayInputStream(getBundledConfig(fileName)), Charsets.UTF_8)
     ) {
-      if (resourceStream == null)
-        throw new IllegalStateException("Could not load resource file at " + resourcePath);
-
-      YamlConfig resourceConfig = new YamlConfig(null, this.logger, null);
-
-      try (
-        var resourceStreamReader = new InputStreamReader(resourceStream, Charsets.UTF_8)
-      ) {
-        resourceConfig.load(resourceStreamReader);
-      }
-
-      return config.extendMissingKeys(resourceConfig);
+      resourceConfig.load(resourceReader);
     }
+
+    return config.extendMissingKeys(resourceConfig);
   }
 
   private void saveConfig(YamlConfig config, String fileName) throws Exception {
-    File file = new File(this.folder, fileName);
-
-    if (file.exists() && !file.isFile())
-      throw new IllegalStateException("Tried to write file; unexpected directory at " + file);
-
-    try (
-      FileOutputStream outputStream = new FileOutputStream(file);
-      OutputStreamWriter outputWriter = new OutputStreamWriter(outputStream)
-    ) {
-      config.save(outputWriter);
-    }
+    AtomicFileWriter.writeIfChanged(new File(this.folder, fileName), config::save);
   }
 
   private @Nullable String parsePreProcessorFileName(String fileName, YamlConfig config) {
@@ -351,7 +501,103 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
     return inputArgument;
   }
 
+  /**
+   * Loads multiple configs in parallel on a bounded pool of threads, see {@link #loadConfigs(Collection, int)}
+   */
+  public Map<String, ConfigMapper> loadConfigs(Collection<String> fileNames) throws Exception {
+    return loadConfigs(fileNames, DEFAULT_LOAD_PARALLELISM);
+  }
+
+  /**
+   * Loads multiple configs in parallel, where each file is read, extended, pre-processed and mapped
+   * on its own; the base environment consumer may thus be invoked concurrently. All files are attempted
+   * to be loaded, even if some of them fail, and the time spent on each file is logged once done. Keepers
+   * which are created for these files afterwards pick up the already loaded mappers.
+   * @param fileNames Names of the files to load
+   * @param parallelism Maximum number of threads to load on
+   * @return Mapper by file name, in the order of the provided names
+   * @throws Exception First exception which occurred, carrying all others as suppressed exceptions
+   */
+  public Map<String, ConfigMapper> loadConfigs(Collection<String> fileNames, int parallelism) throws Exception {
+    if (parallelism <= 0)
+      throw new IllegalStateException("The parallelism of loading configs has to be positive");
+
+    var distinctFileNames = new LinkedHashSet<>(fileNames);
+    var threadCount = Math.min(parallelism, Math.max(distinctFileNames.size(), 1));
+    var threadNumber = new AtomicInteger();
+
+    var executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+      var thread = new Thread(runnable, "ConfigLoader-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    var beginNanos = System.nanoTime();
+    var futureByFileName = new LinkedHashMap<String, Future<ConfigMapper>>();
+    var nanosByFileName = new ConcurrentHashMap<String, Long>();
+
+    try {
+      for (var fileName : distinctFileNames) {
+        futureByFileName.put(fileName, executor.submit(() -> {
+          var fileBeginNanos = System.nanoTime();
+          var mapper = loadConfig(fileName);
+          nanosByFileName.put(fileName, System.nanoTime() - fileBeginNanos);
+          return mapper;
+        }));
+      }
+
+      var result = new LinkedHashMap<String, ConfigMapper>();
+      var fileTimings = new StringJoiner(", ");
+      Exception firstException = null;
+
+      for (var futureEntry : futureByFileName.entrySet()) {
+        var fileName = futureEntry.getKey();
+
+        try {
+          result.put(fileName, futureEntry.getValue().get());
+          fileTimings.add(fileName + " " + TimeUnit.NANOSECONDS.toMillis(nanosByFileName.get(fileName)) + "ms");
+        } catch (ExecutionException e) {
+          var cause = e.getCause() instanceof Exception exception ? exception : e;
+
+          if (firstException == null)
+            firstException = cause;
+          else
+            firstException.addSuppressed(cause);
+        }
+      }
+
+      if (firstException != null)
+        throw firstException;
+
+      logger.info(
+        "Loaded " + result.size() + " configuration(s) on " + threadCount + " thread(s) within " +
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beginNanos) + "ms (" + fileTimings + ")"
+      );
+
+      return result;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   public ConfigMapper loadConfig(String fileName) throws Exception {
+    return loadConfig(fileName, new StageTimer(new ReloadTimings(), metrics, fileName));
+  }
+
+  ConfigMapper loadConfig(String fileName, StageTimer timer) throws Exception {
+    // Loads of distinct files may happen concurrently, while loads of the same file are serialized
+    synchronized (getFileLock(fileName)) {
+      // Waiting for another load of the same file is not part of any stage
+      timer.restart();
+      return loadConfigWhileLocked(fileName, timer);
+    }
+  }
+
+  private Object getFileLock(String fileName) {
+    return fileLockByFileName.computeIfAbsent(fileName.toLowerCase(), key -> new Object());
+  }
+
+  private ConfigMapper loadConfigWhileLocked(String fileName, StageTimer timer) throws Exception {
     boolean hasBeenCreated = false;
 
     File file = new File(this.folder, fileName);
@@ -360,10 +606,48 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
       if (file.isDirectory())
         throw new IllegalStateException("Tried to read file; unexpected directory at " + file);
     } else {
-      this.plugin.saveResource(getPluginResourcePath(fileName), true);
+      // A crash while writing must not leave a truncated file, which would be loaded as the user's config later on
+      AtomicFileWriter.writeIfChanged(file, getBundledConfig(fileName));
       hasBeenCreated = true;
     }
 
+    var loadedConfig = loadedConfigByFileName.get(fileName.toLowerCase());
+
+    // The environment may have changed since the last load, so only the parsed config is reused
+    if (hasBeenCreated || loadedConfig == null || !isUpToDate(loadedConfig, file)) {
+      loadedConfig = parseConfig(fileName, file, hasBeenCreated, timer);
+      loadedConfigByFileName.put(fileName.toLowerCase(), loadedConfig);
+    }
+
+    var evaluator = loadedConfig.evaluator;
+
+    Object lutValue = loadedConfig.config.get("lut");
+    Map<?, ?> lut = lutValue instanceof Map ? (Map<?, ?>) lutValue : new HashMap<>();
+
+    EvaluationEnvironmentBuilder baseEnvironment = new EvaluationEnvironmentBuilder()
+      .withFunction("base64_to_skin_url", base64ToSkinUrlFunction)
+      .withFunction("skin_url_to_base64", skinUrlToBase64Function);
+
+    // Allow for external additions to the base environment
+    if (baseEnvironmentConsumer != null)
+      baseEnvironmentConsumer.accept(baseEnvironment);
+
+    // Enable support for expressions within the LUT also
+    baseEnvironment
+      .withStaticVariable("lut", evaluateLeafExpressions(evaluator, baseEnvironment.build(), lut))
+        .withValueInterpreter(new BukkitValueInterpreter());
+
+    evaluator.setBaseEnvironment(baseEnvironment);
+    timer.complete(ReloadStage.EVALUATE_LUT);
+
+    ConfigMapper mapper = new ConfigMapper(loadedConfig.config, this.logger, evaluator, this);
+    timer.complete(ReloadStage.CREATE_MAPPER);
+    mapperByFileName.put(fileName.toLowerCase(), new Tuple<>(evaluator, mapper));
+
+    return mapper;
+  }
+
+  private LoadedConfig parseConfig(String fileName, File file, boolean hasBeenCreated, StageTimer timer) throws Exception {
     try (
       var inputStream = new FileInputStream(file);
       var inputStreamReader = new InputStreamReader(inputStream, Charsets.UTF_8)
@@ -372,6 +656,7 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
       YamlConfig config = new YamlConfig(evaluator, this.logger, EXPRESSION_MARKER_SUFFIX);
 
       config.load(inputStreamReader);
+      timer.complete(ReloadStage.PARSE_CONFIG);
 
       if (!hasBeenCreated) {
         int numExtendedKeys = extendConfig(fileName, config);
@@ -380,6 +665,8 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
           this.logger.log(Level.INFO, "Extended " + numExtendedKeys + " new keys on the configuration " + fileName);
           saveConfig(config, fileName);
         }
+
+        timer.complete(ReloadStage.EXTEND_CONFIG);
       }
 
       var preProcessorFileName = parsePreProcessorFileName(fileName, config);
@@ -390,6 +677,9 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
         if (preProcessorInput == null)
           throw new IllegalStateException("Could not locate pre-processor input named " + preProcessorFileName + " as requested in " + file);
 
+        // Loads may run concurrently, so each of them uses its own pre-processor
+        var preProcessor = new PreProcessor();
+
         preProcessor.forEachScalarValue(config, scalarNode -> {
           var nodeValue = scalarNode.getValue();
 
@@ -412,32 +702,34 @@ public class ConfigManager implements IConfigManager, IValueConverterRegistry {
         var preProcessorFileNameWithoutExtension = preProcessorFileName.substring(0, preProcessorFileName.lastIndexOf('.'));
         var outputFile = new File(file.getParentFile(), "result." + preProcessorFileNameWithoutExtension + ".yml");
 
-        config.save(new FileWriter(outputFile));
-        logger.info("Saved read-only pre-processed version of " + file + " at " + outputFile);
-      }
-
-      Object lutValue = config.get("lut");
-      Map<?, ?> lut = lutValue instanceof Map ? (Map<?, ?>) lutValue : new HashMap<>();
+        // Configs which share an input also share their output file
+        synchronized (getFileLock(outputFile.getName())) {
+          if (AtomicFileWriter.writeIfChanged(outputFile, config::save))
+            logger.info("Saved read-only pre-processed version of " + file + " at " + outputFile);
+        }
 
-      EvaluationEnvironmentBuilder baseEnvironment = new EvaluationEnvironmentBuilder()
-        .withFunction("base64_to_skin_url", base64ToSkinUrlFunction)
-        .withFunction("skin_url_to_base64", skinUrlToBase64Function);
+        timer.complete(ReloadStage.PRE_PROCESS);
+      }
 
-      // Allow for external additions to the base environment
-      if (baseEnvironmentConsumer != null)
-        baseEnvironmentConsumer.accept(baseEnvironment);
+      return new LoadedConfig(
+        FileFingerprint.of(file),
+        preProcessorFileName,
+        preProcessorFileName == null ? 0 : inputVersionByFileName.getOrDefault(preProcessorFileName, 0),
+        evaluator,
+        config
+      );
+    }
+  }
 
-      // Enable support for expressions within the LUT also
-      baseEnvironment
-        .withStaticVariable("lut", evaluateLeafExpressions(evaluator, baseEnvironment.build(), lut))
-          .withValueInterpreter(new BukkitValueInterpreter());
+  private boolean isUpToDate(LoadedConfig loadedConfig, File file) throws IOException {
+    if (!loadedConfig.fingerprint.isUnchanged(file))
+      return false;
 
-      evaluator.setBaseEnvironment(baseEnvironment);
+    if (loadedConfig.preProcessorFileName == null)
+      return true;
 
-      ConfigMapper mapper = new ConfigMapper(config, this.logger, evaluator, this);
-      mapperByFileName.put(fileName.toLowerCase(), new Tuple<>(evaluator, mapper));
-      return mapper;
-    }
+    var currentVersion = inputVersionByFileName.getOrDefault(loadedConfig.preProcessorFileName, 0);
+    return currentVersion == loadedConfig.preProcessorInputVersion;
   }
 
   private Object evaluateLeafExpressions(GPEEE evaluator, IEvaluationEnvironment environment, Object input) {
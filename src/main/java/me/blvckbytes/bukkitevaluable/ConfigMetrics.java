@@ -0,0 +1,132 @@
+package me.blvckbytes.bukkitevaluable;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Long-lived measurements of a {@link ConfigManager}: the duration and allocations of each stage
+ * of loading and reloading per file, as well as the time spent in reload listeners per priority.
+ * All accessors hand out snapshots, which can be exported to external monitoring as-is.
+ */
+public class ConfigMetrics {
+
+  private static final @Nullable com.sun.management.ThreadMXBean threadBean = resolveThreadBean();
+
+  private final Map<String, Map<ReloadStage, Accumulator>> accumulatorsByFileName;
+  private final Map<ReloadPriority, Accumulator> listenerAccumulatorByPriority;
+
+  ConfigMetrics() {
+    this.accumulatorsByFileName = new ConcurrentHashMap<>();
+    this.listenerAccumulatorByPriority = new ConcurrentHashMap<>();
+  }
+
+  void recordStage(String fileName, ReloadStage stage, long nanos, long allocatedBytes) {
+    accumulatorsByFileName
+      .computeIfAbsent(fileName.toLowerCase(), key -> new ConcurrentHashMap<>())
+      .computeIfAbsent(stage, key -> new Accumulator())
+      .add(nanos, allocatedBytes);
+  }
+
+  void recordListeners(ReloadPriority priority, long nanos) {
+    listenerAccumulatorByPriority
+      .computeIfAbsent(priority, key -> new Accumulator())
+      .add(nanos, 0);
+  }
+
+  /**
+   * @return Names of all files which have been measured
+   */
+  public Set<String> getFileNames() {
+    return Set.copyOf(accumulatorsByFileName.keySet());
+  }
+
+  /**
+   * @return Statistics by stage of a file, empty if it has not been measured
+   */
+  public Map<ReloadStage, StageStatistics> getStageStatistics(String fileName) {
+    var accumulatorByStage = accumulatorsByFileName.get(fileName.toLowerCase());
+    var result = new EnumMap<ReloadStage, StageStatistics>(ReloadStage.class);
+
+    if (accumulatorByStage != null) {
+      for (var entry : accumulatorByStage.entrySet())
+        result.put(entry.getKey(), entry.getValue().snapshot());
+    }
+
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * @return Statistics of the reload listeners, summed up for each of the priorities
+   */
+  public Map<ReloadPriority, StageStatistics> getListenerStatistics() {
+    var result = new EnumMap<ReloadPriority, StageStatistics>(ReloadPriority.class);
+
+    for (var entry : listenerAccumulatorByPriority.entrySet())
+      result.put(entry.getKey(), entry.getValue().snapshot());
+
+    return Collections.unmodifiableMap(result);
+  }
+
+  public void reset() {
+    accumulatorsByFileName.clear();
+    listenerAccumulatorByPriority.clear();
+  }
+
+  /**
+   * Whether allocations are measured; if not, all allocation statistics remain zero. This library never
+   * changes the JVM-wide setting of measuring thread allocations, it only reads them while it's enabled
+   */
+  public static boolean isAllocationTrackingSupported() {
+    return threadBean != null && threadBean.isThreadAllocatedMemoryEnabled();
+  }
+
+  /**
+   * @return Bytes allocated by the current thread so far, zero if allocations are not being measured
+   */
+  static long getCurrentThreadAllocatedBytes() {
+    if (threadBean == null || !threadBean.isThreadAllocatedMemoryEnabled())
+      return 0;
+
+    return Math.max(0, threadBean.getCurrentThreadAllocatedBytes());
+  }
+
+  private static @Nullable com.sun.management.ThreadMXBean resolveThreadBean() {
+    try {
+      if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean))
+        return null;
+
+      if (!bean.isThreadAllocatedMemorySupported())
+        return null;
+
+      return bean;
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  private static class Accumulator {
+
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+    private long lastNanos;
+    private long totalAllocatedBytes;
+    private long lastAllocatedBytes;
+
+    private synchronized void add(long nanos, long allocatedBytes) {
+      ++count;
+      totalNanos += nanos;
+      maxNanos = Math.max(maxNanos, nanos);
+      lastNanos = nanos;
+      totalAllocatedBytes += allocatedBytes;
+      lastAllocatedBytes = allocatedBytes;
+    }
+
+    private synchronized StageStatistics snapshot() {
+      return new StageStatistics(count, totalNanos, maxNanos, lastNanos, totalAllocatedBytes, lastAllocatedBytes);
+    }
+  }
+}
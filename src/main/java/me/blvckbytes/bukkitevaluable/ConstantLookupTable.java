@@ -0,0 +1,129 @@
+package me.blvckbytes.bukkitevaluable;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, case-insensitive lookup table of all "enum" constants of a class, which are either
+ * true enum constants or static self-typed constant declarations. Tables are built eagerly on
+ * first request and published through a {@link ClassValue}, so they may be shared between threads
+ * freely. As a table holds every constant, unknown names are rejected without rescanning the class.
+ */
+public class ConstantLookupTable {
+
+  private static final ClassValue<ConstantLookupTable> tableByClass = new ClassValue<>() {
+    @Override
+    protected ConstantLookupTable computeValue(Class<?> type) {
+      return new ConstantLookupTable(type);
+    }
+  };
+
+  private final String[] names;
+  private final Object[] constants;
+  private final int mask;
+
+  private ConstantLookupTable(Class<?> type) {
+    var entryNames = new ArrayList<String>();
+    var entryConstants = new ArrayList<>();
+
+    collectConstants(type, entryNames, entryConstants);
+
+    // Keep the load factor at or below one half, so that probe sequences stay short
+    var capacity = Integer.highestOneBit(Math.max(entryNames.size(), 1) * 2) << 1;
+
+    this.names = new String[capacity];
+    this.constants = new Object[capacity];
+    this.mask = capacity - 1;
+
+    for (var i = 0; i < entryNames.size(); ++i) {
+      var name = entryNames.get(i);
+      var slot = hash(name, 0, name.length()) & mask;
+
+      while (names[slot] != null) {
+        // The first declaration of a name wins, as with a linear scan
+        if (names[slot].equalsIgnoreCase(name))
+          break;
+
+        slot = (slot + 1) & mask;
+      }
+
+      if (names[slot] != null)
+        continue;
+
+      names[slot] = name;
+      constants[slot] = entryConstants.get(i);
+    }
+  }
+
+  public static ConstantLookupTable of(Class<?> type) {
+    return tableByClass.get(type);
+  }
+
+  /**
+   * Looks up a constant by its name, ignoring casing as well as leading and trailing whitespace
+   * @param value Name of the constant
+   * @return Constant, null if there was no such constant
+   */
+  public @Nullable Object lookup(String value) {
+    var begin = 0;
+    var end = value.length();
+
+    while (begin < end && value.charAt(begin) <= ' ')
+      ++begin;
+
+    while (end > begin && value.charAt(end - 1) <= ' ')
+      --end;
+
+    var length = end - begin;
+    var slot = hash(value, begin, end) & mask;
+
+    for (String name; (name = names[slot]) != null; slot = (slot + 1) & mask) {
+      if (name.length() == length && name.regionMatches(true, 0, value, begin, length))
+        return constants[slot];
+    }
+
+    return null;
+  }
+
+  private static int hash(String value, int begin, int end) {
+    var hash = 0;
+
+    for (var i = begin; i < end; ++i)
+      hash = 31 * hash + Character.toLowerCase(value.charAt(i));
+
+    // Spread higher bits downwards, as the table is indexed by the lower bits only
+    return hash ^ (hash >>> 16);
+  }
+
+  private static void collectConstants(Class<?> type, List<String> names, List<Object> constants) {
+    if (type.isEnum()) {
+      for (var enumConstant : type.getEnumConstants()) {
+        names.add(((Enum<?>) enumConstant).name());
+        constants.add(enumConstant);
+      }
+
+      return;
+    }
+
+    for (Field field : type.getDeclaredFields()) {
+      if (!field.getType().equals(type) || !Modifier.isStatic(field.getModifiers()))
+        continue;
+
+      try {
+        var constant = field.get(null);
+
+        if (constant == null)
+          continue;
+
+        names.add(field.getName());
+        constants.add(constant);
+      } catch (Exception e) {
+        e.printStackTrace();
+      }
+    }
+  }
+}
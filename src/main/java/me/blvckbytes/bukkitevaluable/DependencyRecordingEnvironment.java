@@ -0,0 +1,188 @@
+package me.blvckbytes.bukkitevaluable;
+
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.IValueInterpreter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Wraps an environment and records the names of all variables which have been looked up on it
+ * while evaluating, together with the value each of them had when it has been read for the first time.
+ * If the variables are accessed in bulk (iterating, copying), every variable is considered to be a
+ * dependency, as there's no way of telling which of them will end up being used. Functions are
+ * recorded as well, as they may depend on the caller or on the time of invocation, which can not
+ * be captured by a value.
+ */
+public class DependencyRecordingEnvironment implements IEvaluationEnvironment {
+
+  private final IEvaluationEnvironment environment;
+  private final RecordingMap<AExpressionFunction> functions;
+  private final RecordingMap<Supplier<?>> liveVariables;
+  private final RecordingMap<Object> staticVariables;
+  private final Set<String> accessedVariables;
+  private final Map<String, @Nullable Object> valueByReadVariable;
+  private boolean accessedAllVariables, accessedFunctions;
+
+  public DependencyRecordingEnvironment(IEvaluationEnvironment environment) {
+    this.environment = environment;
+    this.functions = new RecordingMap<>(environment.getFunctions(), true);
+    this.liveVariables = new RecordingMap<>(environment.getLiveVariables(), false) {
+      @Override
+      protected @Nullable Supplier<?> onRead(String name, @Nullable Supplier<?> supplier) {
+        if (supplier == null)
+          return null;
+
+        // Record the value which is actually being rendered, not the one a later invocation may yield
+        return () -> {
+          var value = supplier.get();
+          recordValue(name, value);
+          return value;
+        };
+      }
+    };
+    this.staticVariables = new RecordingMap<>(environment.getStaticVariables(), false) {
+      @Override
+      protected @Nullable Object onRead(String name, @Nullable Object value) {
+        recordValue(name, value);
+        return value;
+      }
+    };
+    this.accessedVariables = new HashSet<>();
+    this.valueByReadVariable = new HashMap<>();
+  }
+
+  /**
+   * Names of all variables which have been looked up individually
+   */
+  public Set<String> getAccessedVariables() {
+    return Collections.unmodifiableSet(accessedVariables);
+  }
+
+  /**
+   * Values of all variables which have been looked up individually, as they have been read for
+   * the first time while evaluating; variables which have only been tested for their existence,
+   * or whose supplier has not been invoked, are missing
+   */
+  public Map<String, @Nullable Object> getReadValues() {
+    return Collections.unmodifiableMap(valueByReadVariable);
+  }
+
+  /**
+   * Whether the variables have been accessed in bulk, thus making
+   * every variable of the environment a dependency
+   */
+  public boolean hasAccessedAllVariables() {
+    return accessedAllVariables;
+  }
+
+  /**
+   * Whether any function has been looked up, be it individually or in bulk,
+   * thus making the result dependent on more than just variable values
+   */
+  public boolean hasAccessedFunctions() {
+    return accessedFunctions;
+  }
+
+  /**
+   * Whether the evaluation did neither read any variable of the wrapped environment nor any function
+   */
+  public boolean isIndependent() {
+    if (accessedFunctions)
+      return false;
+
+    if (accessedAllVariables)
+      return liveVariables.isEmpty() && staticVariables.isEmpty();
+
+    return accessedVariables.isEmpty();
+  }
+
+  @Override
+  public Map<String, AExpressionFunction> getFunctions() {
+    return functions;
+  }
+
+  @Override
+  public Map<String, Supplier<?>> getLiveVariables() {
+    return liveVariables;
+  }
+
+  @Override
+  public Map<String, ?> getStaticVariables() {
+    return staticVariables;
+  }
+
+  @Override
+  public IValueInterpreter getValueInterpreter() {
+    return environment.getValueInterpreter();
+  }
+
+  private void recordValue(String name, @Nullable Object value) {
+    if (!valueByReadVariable.containsKey(name))
+      valueByReadVariable.put(name, value);
+  }
+
+  private class RecordingMap<V> extends AbstractMap<String, V> {
+
+    private final Map<String, V> map;
+    private final boolean isFunctions;
+
+    private RecordingMap(Map<String, ? extends V> map, boolean isFunctions) {
+      this.map = Collections.unmodifiableMap(map);
+      this.isFunctions = isFunctions;
+    }
+
+    protected @Nullable V onRead(String name, @Nullable V value) {
+      return value;
+    }
+
+    private void recordAccess(String name) {
+      if (isFunctions)
+        accessedFunctions = true;
+      else
+        accessedVariables.add(name);
+    }
+
+    @Override
+    public V get(Object key) {
+      if (!(key instanceof String name))
+        return map.get(key);
+
+      recordAccess(name);
+      return onRead(name, map.get(name));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      if (key instanceof String name)
+        recordAccess(name);
+
+      return map.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return map.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+      // Bulk access of an empty map can not make any result depend on it
+      if (!map.isEmpty()) {
+        if (isFunctions)
+          accessedFunctions = true;
+        else
+          accessedAllVariables = true;
+      }
+
+      return map.entrySet();
+    }
+  }
+}
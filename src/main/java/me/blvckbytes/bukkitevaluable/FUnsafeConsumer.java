@@ -0,0 +1,8 @@
+package me.blvckbytes.bukkitevaluable;
+
+@FunctionalInterface
+public interface FUnsafeConsumer<I, E extends Throwable> {
+
+  void accept(I i) throws E;
+
+}
@@ -0,0 +1,51 @@
+package me.blvckbytes.bukkitevaluable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Snapshot of a file's size and content hash, used to detect
+ * whether a file has to be processed again since it has last been read
+ */
+public class FileFingerprint {
+
+  private final long length;
+  private final byte[] digest;
+
+  private FileFingerprint(long length, byte[] digest) {
+    this.length = length;
+    this.digest = digest;
+  }
+
+  public static FileFingerprint of(File file) throws IOException {
+    var contents = Files.readAllBytes(file.toPath());
+    return new FileFingerprint(contents.length, digest(contents));
+  }
+
+  /**
+   * Checks whether the file still has the same contents as when this fingerprint has been taken, where a
+   * differing size proves a change without reading the file; equal modification times prove nothing, as
+   * they're preserved by editors and deploy-tools, or are too coarse, so the contents are hashed otherwise
+   */
+  public boolean isUnchanged(File file) throws IOException {
+    if (!file.isFile())
+      return false;
+
+    if (file.length() != length)
+      return false;
+
+    return Arrays.equals(digest, digest(Files.readAllBytes(file.toPath())));
+  }
+
+  private static byte[] digest(byte[] contents) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(contents);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is required to be supported by every JVM", e);
+    }
+  }
+}
@@ -28,6 +28,8 @@ import me.blvckbytes.bukkitevaluable.section.ItemStackSection;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.List;
+
 public interface IItemBuildable {
 
   /**
@@ -36,6 +38,21 @@ public interface IItemBuildable {
    */
   ItemStack build(IEvaluationEnvironment environment);
 
+  /**
+   * Build the item once per environment, where implementations may share all work
+   * which doesn't depend on the environment between the items of the batch
+   * @param environments Environments to use when evaluating the templates, one per item
+   * @return Built items, in the order of their environments
+   */
+  default ItemStack[] buildAll(List<IEvaluationEnvironment> environments) {
+    var result = new ItemStack[environments.size()];
+
+    for (var i = 0; i < result.length; ++i)
+      result[i] = build(environments.get(i));
+
+    return result;
+  }
+
   /**
    * Creates a carbon copy of this item which can then be modified
    * without affecting the original instance in any way
@@ -0,0 +1,200 @@
+package me.blvckbytes.bukkitevaluable;
+
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches built items by the values of those environment variables which the templates
+ * actually read while building. Dependencies are recorded on every miss, so that branches
+ * which only read certain variables under certain conditions are accounted for eventually.
+ * Variables of the evaluator's base environment (lut, etc.) are considered to be constant.
+ * As soon as a build calls any function, which may depend on the caller or on the time
+ * of invocation, the cache is disabled, since such results can not be keyed by values.
+ */
+public class ItemBuildCache {
+
+  private static final Dependencies UNKNOWN_DEPENDENCIES = new Dependencies(Set.of(), false, false, false);
+
+  private final int maximumSize;
+  private final Map<Map<String, Object>, ItemStack> snapshotByKey;
+  private final LongAdder hitCount, missCount;
+
+  // Only ever replaced as a whole while holding the lock on snapshotByKey
+  private volatile Dependencies dependencies;
+
+  public ItemBuildCache(int maximumSize) {
+    if (maximumSize <= 0)
+      throw new IllegalStateException("The maximum size of a build cache has to be positive");
+
+    this.maximumSize = maximumSize;
+    this.dependencies = UNKNOWN_DEPENDENCIES;
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+
+    this.snapshotByKey = new LinkedHashMap<>(16, .75F, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Map<String, Object>, ItemStack> eldest) {
+        return size() > ItemBuildCache.this.maximumSize;
+      }
+    };
+  }
+
+  public ItemStack getOrBuild(IEvaluationEnvironment environment, Function<IEvaluationEnvironment, ItemStack> builder) {
+    var currentDependencies = dependencies;
+
+    if (currentDependencies.uncacheable) {
+      missCount.increment();
+      return builder.apply(environment);
+    }
+
+    if (currentDependencies.known) {
+      var key = makeKey(environment, currentDependencies, Map.of());
+      ItemStack snapshot;
+
+      synchronized (snapshotByKey) {
+        // Keys made up of another set of dependencies are never equal, thus a concurrent widening can only cause a miss
+        snapshot = snapshotByKey.get(key);
+      }
+
+      if (snapshot != null) {
+        hitCount.increment();
+        return snapshot.clone();
+      }
+    }
+
+    missCount.increment();
+
+    var recordingEnvironment = new DependencyRecordingEnvironment(environment);
+    var result = builder.apply(recordingEnvironment);
+
+    synchronized (snapshotByKey) {
+      var mergedDependencies = dependencies.merge(recordingEnvironment);
+
+      if (mergedDependencies != dependencies) {
+        // Keys which have been made up of fewer dependencies are no longer comparable
+        snapshotByKey.clear();
+        dependencies = mergedDependencies;
+      }
+
+      if (!mergedDependencies.uncacheable)
+        snapshotByKey.put(makeKey(environment, mergedDependencies, recordingEnvironment.getReadValues()), result.clone());
+    }
+
+    return result;
+  }
+
+  public void clear() {
+    synchronized (snapshotByKey) {
+      snapshotByKey.clear();
+      dependencies = UNKNOWN_DEPENDENCIES;
+    }
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public int getSize() {
+    synchronized (snapshotByKey) {
+      return snapshotByKey.size();
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Makes up the key of a build from the values of its dependencies, where values which have already
+   * been read while building are taken as they were, so that the snapshot is stored under exactly the
+   * values it has been built from, without invoking suppliers a second time
+   */
+  private static Map<String, Object> makeKey(
+    IEvaluationEnvironment environment,
+    Dependencies dependencies,
+    Map<String, Object> readValues
+  ) {
+    var liveVariables = environment.getLiveVariables();
+    var staticVariables = environment.getStaticVariables();
+
+    var key = new HashMap<String, Object>();
+
+    for (var dependency : dependencies.names)
+      key.put(dependency, readVariable(liveVariables, staticVariables, readValues, dependency));
+
+    if (dependencies.allVariables) {
+      for (var name : liveVariables.keySet())
+        key.put(name, readVariable(liveVariables, staticVariables, readValues, name));
+
+      for (var name : staticVariables.keySet())
+        key.put(name, readVariable(liveVariables, staticVariables, readValues, name));
+    }
+
+    return key;
+  }
+
+  private static Object readVariable(
+    Map<String, Supplier<?>> liveVariables,
+    Map<String, ?> staticVariables,
+    Map<String, Object> readValues,
+    String name
+  ) {
+    if (readValues.containsKey(name))
+      return readValues.get(name);
+
+    var supplier = liveVariables.get(name);
+
+    if (supplier != null)
+      return supplier.get();
+
+    return staticVariables.get(name);
+  }
+
+  /**
+   * Immutable set of dependencies, so that all of its properties are always read consistently
+   */
+  private static class Dependencies {
+
+    private final Set<String> names;
+    private final boolean allVariables;
+    private final boolean uncacheable;
+    private final boolean known;
+
+    private Dependencies(Set<String> names, boolean allVariables, boolean uncacheable, boolean known) {
+      this.names = names;
+      this.allVariables = allVariables;
+      this.uncacheable = uncacheable;
+      this.known = known;
+    }
+
+    /**
+     * @return Dependencies widened by those of the recorded build, this instance if nothing changed
+     */
+    private Dependencies merge(DependencyRecordingEnvironment recordingEnvironment) {
+      var mergedAllVariables = allVariables || recordingEnvironment.hasAccessedAllVariables();
+      var mergedUncacheable = uncacheable || recordingEnvironment.hasAccessedFunctions();
+      var accessedVariables = recordingEnvironment.getAccessedVariables();
+      var mergedNames = names;
+
+      if (!names.containsAll(accessedVariables)) {
+        var unionOfNames = new HashSet<>(names);
+        unionOfNames.addAll(accessedVariables);
+        mergedNames = Set.copyOf(unionOfNames);
+      }
+
+      if (known && mergedNames == names && mergedAllVariables == allVariables && mergedUncacheable == uncacheable)
+        return this;
+
+      return new Dependencies(mergedNames, mergedAllVariables, mergedUncacheable, true);
+    }
+  }
+}
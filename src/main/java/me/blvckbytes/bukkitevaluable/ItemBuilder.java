@@ -47,6 +47,8 @@ import java.util.Objects;
 
 public class ItemBuilder implements IItemBuildable {
 
+  private static final int LORE_LINES_PER_BLOCK_ESTIMATE = 8;
+
   public static @Nullable TexturesHandler texturesHandler;
 
   static {
@@ -87,6 +89,8 @@ public class ItemBuilder implements IItemBuildable {
   private final List<ItemStackBannerPatternSection> bannerPatterns;
   private final List<BukkitEvaluable> flags;
 
+  private @Nullable ItemBuildCache buildCache;
+
   private ItemBuilder(
     ItemStack baseItem,
     ItemMeta baseMeta,
@@ -105,7 +109,8 @@ public class ItemBuilder implements IItemBuildable {
     List<ItemStackCustomEffectSection> customEffects,
     List<ItemStackEnchantmentSection> enchantments,
     List<ItemStackBannerPatternSection> bannerPatterns,
-    List<BukkitEvaluable> flags
+    List<BukkitEvaluable> flags,
+    @Nullable ItemBuildCache buildCache
   ) {
     this.baseItem = new ItemStack(baseItem);
     this.baseMeta = baseMeta.clone();
@@ -125,6 +130,10 @@ public class ItemBuilder implements IItemBuildable {
     this.enchantments = new ArrayList<>(enchantments);
     this.bannerPatterns = new ArrayList<>(bannerPatterns);
     this.flags = new ArrayList<>(flags);
+
+    // Copies may be altered independently, thus they cannot share snapshots
+    if (buildCache != null)
+      this.buildCache = new ItemBuildCache(buildCache.getMaximumSize());
   }
 
   public ItemBuilder(ItemStack item, int amount) {
@@ -150,11 +159,38 @@ public class ItemBuilder implements IItemBuildable {
   //                                 Builder                                 //
   //=========================================================================//
 
+  /**
+   * Enables caching of built items, keyed by the values of those environment variables
+   * which the templates read, where hits are handed out as a clone of the cached snapshot.
+   * Templates which call functions are built every time, as their results can not be keyed
+   * by values; only enable this if variables are not expected to be mutated in place.
+   * @param maximumSize Maximum number of snapshots to keep, evicting the least recently used
+   */
+  public ItemBuilder enableBuildCache(int maximumSize) {
+    this.buildCache = new ItemBuildCache(maximumSize);
+    return this;
+  }
+
+  public ItemBuilder disableBuildCache() {
+    this.buildCache = null;
+    return this;
+  }
+
+  public @Nullable ItemBuildCache getBuildCache() {
+    return buildCache;
+  }
+
+  private void invalidateBuildCache() {
+    if (buildCache != null)
+      buildCache.clear();
+  }
+
   public ItemBuilder setType(@Nullable BukkitEvaluable type) {
     if (type == null)
       return this;
 
     this.type = type;
+    invalidateBuildCache();
     return this;
   }
 
@@ -163,11 +199,13 @@ public class ItemBuilder implements IItemBuildable {
       return this;
 
     this.amount = amount;
+    invalidateBuildCache();
     return this;
   }
 
   public ItemBuilder setName(@Nullable BukkitEvaluable name) {
     this.name = name;
+    invalidateBuildCache();
     return this;
   }
 
@@ -177,6 +215,7 @@ public class ItemBuilder implements IItemBuildable {
 
     this.loreOverride = false;
     this.loreBlocks.add(lore);
+    invalidateBuildCache();
     return this;
   }
 
@@ -187,6 +226,7 @@ public class ItemBuilder implements IItemBuildable {
     this.loreOverride = true;
     this.loreBlocks.clear();
     this.loreBlocks.add(lore);
+    invalidateBuildCache();
     return this;
   }
 
@@ -196,6 +236,7 @@ public class ItemBuilder implements IItemBuildable {
 
     this.enchantmentsOverride = false;
     Collections.addAll(this.enchantments, enchantments);
+    invalidateBuildCache();
     return this;
   }
 
@@ -206,6 +247,7 @@ public class ItemBuilder implements IItemBuildable {
     if (enchantments != null)
       Collections.addAll(this.enchantments, enchantments);
 
+    invalidateBuildCache();
     return this;
   }
 
@@ -215,6 +257,7 @@ public class ItemBuilder implements IItemBuildable {
 
     this.flagsOverride = false;
     this.flags.add(flags);
+    invalidateBuildCache();
     return this;
   }
 
@@ -225,6 +268,7 @@ public class ItemBuilder implements IItemBuildable {
     this.flagsOverride = true;
     this.flags.clear();
     this.flags.add(flag);
+    invalidateBuildCache();
     return this;
   }
 
@@ -233,6 +277,7 @@ public class ItemBuilder implements IItemBuildable {
       return this;
 
     this.color = color;
+    invalidateBuildCache();
     return this;
   }
 
@@ -241,6 +286,7 @@ public class ItemBuilder implements IItemBuildable {
       return this;
 
     this.baseEffect = effect;
+    invalidateBuildCache();
     return this;
   }
 
@@ -250,6 +296,7 @@ public class ItemBuilder implements IItemBuildable {
 
     this.customEffectsOverride = false;
     Collections.addAll(this.customEffects, effects);
+    invalidateBuildCache();
     return this;
   }
 
@@ -260,6 +307,7 @@ public class ItemBuilder implements IItemBuildable {
     if (effects != null)
       Collections.addAll(this.customEffects, effects);
 
+    invalidateBuildCache();
     return this;
   }
 
@@ -268,6 +316,7 @@ public class ItemBuilder implements IItemBuildable {
       return this;
 
     this.textures = textures;
+    invalidateBuildCache();
     return this;
   }
 
@@ -277,6 +326,7 @@ public class ItemBuilder implements IItemBuildable {
 
     this.patternOverride = false;
     Collections.addAll(this.bannerPatterns, patterns);
+    invalidateBuildCache();
     return this;
   }
 
@@ -287,6 +337,7 @@ public class ItemBuilder implements IItemBuildable {
     if (patterns != null)
       Collections.addAll(this.bannerPatterns, patterns);
 
+    invalidateBuildCache();
     return this;
   }
 
@@ -296,135 +347,254 @@ public class ItemBuilder implements IItemBuildable {
 
   @Override
   public ItemStack build(IEvaluationEnvironment environment) {
-    ItemStack res = baseItem.clone();
-    ItemMeta resMeta = baseMeta.clone();
+    if (buildCache != null)
+      return buildCache.getOrBuild(environment, this::buildUncached);
 
-    //////////////////////////////////// Type ///////////////////////////////////
+    return buildUncached(environment);
+  }
 
-    if (type != null) {
-      XMaterial material = this.type.asXMaterial(environment);
+  private ItemStack buildUncached(IEvaluationEnvironment environment) {
+    ItemStack res = baseItem.clone();
+    ItemMeta resMeta = applyType(res, baseMeta.clone(), environment);
 
-      if (material != null) {
-        material.setType(res);
-        resMeta = Objects.requireNonNull(res.getItemMeta());
-      }
-    }
+    applyAmount(res, environment);
 
-    ////////////////////////////////// Amount ///////////////////////////////////
+    for (var property : BuildProperty.values())
+      applyProperty(property, resMeta, environment);
 
-    if (amount != null)
-      res.setAmount(this.amount.<Long>asScalar(ScalarType.LONG, environment).intValue());
+    res.setItemMeta(resMeta);
+    return res;
+  }
 
-    //////////////////////////////// Display name ////////////////////////////////
+  @Override
+  public ItemStack[] buildAll(List<IEvaluationEnvironment> environments) {
+    var result = new ItemStack[environments.size()];
 
-    if (name != null)
-      name.setDisplayName(resMeta, environment);
+    if (result.length == 0)
+      return result;
 
-    /////////////////////////////////// Lore ///////////////////////////////////
+    // Changing the type replaces the meta, so nothing can be shared if it varies; cached builds are cheap already
+    if (buildCache != null || (type != null && !type.isEnvironmentIndependent())) {
+      for (var i = 0; i < result.length; ++i)
+        result[i] = build(environments.get(i));
 
-    if (loreBlocks.isEmpty()) {
-      if (loreOverride)
-        resMeta.setLore(null);
+      return result;
     }
 
-    else {
-      for (var i = 0; i < loreBlocks.size(); ++i) {
-        // TODO: I'm really not happy with how "lore-blocks" are realized at this point...
-        //       The main idea was that not just existing items, but also config-sections which
-        //       have been turned into IItemBuildable-s can be patched by other sections.
-        loreBlocks.get(i).setLore(resMeta, environment, i == 0 && loreOverride);
+    var firstEnvironment = environments.get(0);
+
+    ItemStack sharedItem = baseItem.clone();
+    ItemMeta sharedMeta = applyType(sharedItem, baseMeta.clone(), firstEnvironment);
+
+    var amountIndependent = amount == null || amount.isEnvironmentIndependent();
+
+    if (amountIndependent)
+      applyAmount(sharedItem, firstEnvironment);
+
+    // Properties are disjoint aspects of the meta, so applying the shared ones up-front doesn't alter the result
+    var varyingProperties = new ArrayList<BuildProperty>();
+
+    for (var property : BuildProperty.values()) {
+      if (isPropertyEnvironmentIndependent(property)) {
+        applyProperty(property, sharedMeta, firstEnvironment);
+        continue;
       }
+
+      varyingProperties.add(property);
     }
 
-    if (loreOverride)
-      resMeta.setLore(null);
+    sharedItem.setItemMeta(sharedMeta);
 
-    /////////////////////////////////// Color //////////////////////////////////
+    if (amountIndependent && varyingProperties.isEmpty()) {
+      result[0] = sharedItem;
 
-    if (color != null) {
-      Color bukkitColor = color.asBukkitColor(environment);
+      for (var i = 1; i < result.length; ++i)
+        result[i] = sharedItem.clone();
 
-      if (bukkitColor != null)
-        applyColor(resMeta, bukkitColor);
+      return result;
     }
 
-    ////////////////////////////////// Textures /////////////////////////////////
+    for (var i = 0; i < result.length; ++i) {
+      var environment = environments.get(i);
+      ItemStack res = sharedItem.clone();
+      ItemMeta resMeta = sharedMeta.clone();
 
-    if (textures != null)
-      applyTextures(resMeta, textures.asScalar(ScalarType.STRING, environment));
+      if (!amountIndependent)
+        applyAmount(res, environment);
 
-    //////////////////////////////// Base Effect ////////////////////////////////
+      for (var property : varyingProperties)
+        applyProperty(property, resMeta, environment);
 
-    if (baseEffect != null) {
-      PotionData data = baseEffect.asData(environment);
-      if (data != null)
-        applyBaseEffect(resMeta, data);
+      res.setItemMeta(resMeta);
+      result[i] = res;
     }
 
-    ////////////////////////////// Custom Effects ///////////////////////////////
+    return result;
+  }
+
+  /**
+   * Independently applicable aspects of the item-meta, in the order of application
+   */
+  private enum BuildProperty {
+    DISPLAY_NAME,
+    LORE,
+    COLOR,
+    TEXTURES,
+    BASE_EFFECT,
+    CUSTOM_EFFECTS,
+    ENCHANTMENTS,
+    ITEM_FLAGS,
+    BANNER_PATTERNS
+  }
+
+  private boolean isPropertyEnvironmentIndependent(BuildProperty property) {
+    return switch (property) {
+      case DISPLAY_NAME -> name == null || name.isEnvironmentIndependent();
+      case LORE -> loreBlocks.stream().allMatch(BukkitEvaluable::isEnvironmentIndependent);
+      case COLOR -> color == null || color.isEnvironmentIndependent();
+      case TEXTURES -> textures == null || textures.isEnvironmentIndependent();
+      case BASE_EFFECT -> baseEffect == null || baseEffect.isEnvironmentIndependent();
+      case CUSTOM_EFFECTS -> customEffects.stream().allMatch(ItemStackCustomEffectSection::isEnvironmentIndependent);
+      case ENCHANTMENTS -> enchantments.stream().allMatch(ItemStackEnchantmentSection::isEnvironmentIndependent);
+      case ITEM_FLAGS -> flags.stream().allMatch(BukkitEvaluable::isEnvironmentIndependent);
+      case BANNER_PATTERNS -> bannerPatterns.stream().allMatch(ItemStackBannerPatternSection::isEnvironmentIndependent);
+    };
+  }
 
-    if (resMeta instanceof PotionMeta) {
-      if (customEffectsOverride)
-        ((PotionMeta) resMeta).clearCustomEffects();
+  private ItemMeta applyType(ItemStack res, ItemMeta resMeta, IEvaluationEnvironment environment) {
+    if (type != null) {
+      XMaterial material = this.type.asXMaterial(environment);
 
-      for (ItemStackCustomEffectSection customEffect : customEffects) {
-        PotionEffect effect = customEffect.asEffect(environment);
-        if (effect != null)
-          applyCustomEffect(resMeta, effect);
+      if (material != null) {
+        material.setType(res);
+        resMeta = Objects.requireNonNull(res.getItemMeta());
       }
     }
 
-    //////////////////////////////// Enchantments ///////////////////////////////
+    return resMeta;
+  }
+
+  private void applyAmount(ItemStack res, IEvaluationEnvironment environment) {
+    if (amount != null)
+      res.setAmount(this.amount.<Long>asScalar(ScalarType.LONG, environment).intValue());
+  }
+
+  private void applyProperty(BuildProperty property, ItemMeta resMeta, IEvaluationEnvironment environment) {
+    switch (property) {
+      case DISPLAY_NAME -> {
+        if (name != null)
+          name.setDisplayName(resMeta, environment);
+      }
 
-    if (enchantmentsOverride)
-      resMeta.getEnchants().keySet().forEach(resMeta::removeEnchant);
+      case LORE -> {
+        if (loreBlocks.isEmpty()) {
+          if (loreOverride)
+            resMeta.setLore(null);
+        }
+
+        else {
+          // TODO: I'm really not happy with how "lore-blocks" are realized at this point...
+          //       The main idea was that not just existing items, but also config-sections which
+          //       have been turned into IItemBuildable-s can be patched by other sections.
+          // All blocks are assembled within a single buffer, which is then written to the meta once
+          List<String> existingLore = (loreOverride || !resMeta.hasLore()) ? null : resMeta.getLore();
+          var existingLoreSize = existingLore == null ? 0 : existingLore.size();
+          var loreLines = new ArrayList<String>(existingLoreSize + loreBlocks.size() * LORE_LINES_PER_BLOCK_ESTIMATE);
+
+          if (existingLore != null)
+            loreLines.addAll(existingLore);
+
+          for (var loreBlock : loreBlocks)
+            loreBlock.appendLore(loreLines, environment);
+
+          resMeta.setLore(loreLines);
+        }
+      }
 
-    for (ItemStackEnchantmentSection enchantmentSection : enchantments) {
-      var enchantment = enchantmentSection.getEnchantment().asEnchantment(environment);
+      case COLOR -> {
+        if (color != null) {
+          Color bukkitColor = color.asBukkitColor(environment);
 
-      if (enchantment == null)
-        continue;
+          if (bukkitColor != null)
+            applyColor(resMeta, bukkitColor);
+        }
+      }
 
-      var levelSection = enchantmentSection.getLevel();
-      var level = 1;
+      case TEXTURES -> {
+        if (textures != null)
+          applyTextures(resMeta, textures.asScalar(ScalarType.STRING, environment));
+      }
 
-      if (levelSection != null)
-        level = levelSection.asScalar(ScalarType.INT, environment);
+      case BASE_EFFECT -> {
+        if (baseEffect != null) {
+          PotionData data = baseEffect.asData(environment);
+          if (data != null)
+            applyBaseEffect(resMeta, data);
+        }
+      }
 
-      resMeta.addEnchant(enchantment, level, true);
-    }
+      case CUSTOM_EFFECTS -> {
+        if (resMeta instanceof PotionMeta) {
+          if (customEffectsOverride)
+            ((PotionMeta) resMeta).clearCustomEffects();
+
+          for (ItemStackCustomEffectSection customEffect : customEffects) {
+            PotionEffect effect = customEffect.asEffect(environment);
+            if (effect != null)
+              applyCustomEffect(resMeta, effect);
+          }
+        }
+      }
 
-    ///////////////////////////////// Item Flags ////////////////////////////////
+      case ENCHANTMENTS -> {
+        if (enchantmentsOverride)
+          resMeta.getEnchants().keySet().forEach(resMeta::removeEnchant);
 
-    if (flagsOverride) {
-      for (ItemFlag flag : ItemFlag.values())
-        resMeta.removeItemFlags(flag);
-    }
+        for (ItemStackEnchantmentSection enchantmentSection : enchantments) {
+          var enchantment = enchantmentSection.getEnchantment().asEnchantment(environment);
 
-    for (BukkitEvaluable flag : flags) {
-      for (ItemFlag itemFlag : flag.asEnumerationConstantSet(ItemFlag.class, environment))
-        resMeta.addItemFlags(itemFlag);
-    }
+          if (enchantment == null)
+            continue;
 
-    /////////////////////////////// Banner Patterns /////////////////////////////
+          var levelSection = enchantmentSection.getLevel();
+          var level = 1;
 
-    if (resMeta instanceof BannerMeta) {
-      BannerMeta bannerMeta = (BannerMeta) resMeta;
+          if (levelSection != null)
+            level = levelSection.asScalar(ScalarType.INT, environment);
 
-      if (patternOverride) {
-        while (bannerMeta.getPatterns().size() > 0)
-          bannerMeta.removePattern(0);
+          resMeta.addEnchant(enchantment, level, true);
+        }
       }
 
-      for (ItemStackBannerPatternSection bannerPattern : bannerPatterns) {
-        Pattern pattern = bannerPattern.asPattern(environment);
-        if (pattern != null)
-          applyPattern(resMeta, pattern);
+      case ITEM_FLAGS -> {
+        if (flagsOverride) {
+          for (ItemFlag flag : ItemFlag.values())
+            resMeta.removeItemFlags(flag);
+        }
+
+        for (BukkitEvaluable flag : flags) {
+          for (ItemFlag itemFlag : flag.asEnumerationConstantSet(ItemFlag.class, environment))
+            resMeta.addItemFlags(itemFlag);
+        }
       }
-    }
 
-    res.setItemMeta(resMeta);
-    return res;
+      case BANNER_PATTERNS -> {
+        if (resMeta instanceof BannerMeta) {
+          BannerMeta bannerMeta = (BannerMeta) resMeta;
+
+          if (patternOverride) {
+            while (bannerMeta.getPatterns().size() > 0)
+              bannerMeta.removePattern(0);
+          }
+
+          for (ItemStackBannerPatternSection bannerPattern : bannerPatterns) {
+            Pattern pattern = bannerPattern.asPattern(environment);
+            if (pattern != null)
+              applyPattern(resMeta, pattern);
+          }
+        }
+      }
+    }
   }
 
   @Override
@@ -447,7 +617,8 @@ public class ItemBuilder implements IItemBuildable {
       customEffects,
       enchantments,
       bannerPatterns,
-      flags
+      flags,
+      buildCache
     );
   }
 
@@ -0,0 +1,32 @@
+package me.blvckbytes.bukkitevaluable;
+
+import me.blvckbytes.bbconfigmapper.YamlConfig;
+import me.blvckbytes.gpeee.GPEEE;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * State of a configuration file at the time it has been loaded, used to determine
+ * whether a subsequent load can skip parsing and pre-processing it again
+ */
+class LoadedConfig {
+
+  final FileFingerprint fingerprint;
+  final @Nullable String preProcessorFileName;
+  final int preProcessorInputVersion;
+  final GPEEE evaluator;
+  final YamlConfig config;
+
+  LoadedConfig(
+    FileFingerprint fingerprint,
+    @Nullable String preProcessorFileName,
+    int preProcessorInputVersion,
+    GPEEE evaluator,
+    YamlConfig config
+  ) {
+    this.fingerprint = fingerprint;
+    this.preProcessorFileName = preProcessorFileName;
+    this.preProcessorInputVersion = preProcessorInputVersion;
+    this.evaluator = evaluator;
+    this.config = config;
+  }
+}
@@ -0,0 +1,13 @@
+package me.blvckbytes.bukkitevaluable;
+
+public enum ReloadStage {
+  MIGRATE_INPUTS,
+  PARSE_CONFIG,
+  EXTEND_CONFIG,
+  PRE_PROCESS,
+  EVALUATE_LUT,
+  CREATE_MAPPER,
+  MAP_SECTION,
+  PATCH_FALLBACKS,
+  CALL_LISTENERS
+}
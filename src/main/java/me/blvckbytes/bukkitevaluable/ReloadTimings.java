@@ -0,0 +1,75 @@
+package me.blvckbytes.bukkitevaluable;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class ReloadTimings {
+
+  private final Map<ReloadStage, Long> nanosByStage;
+  private final Map<ReloadStage, Long> allocatedBytesByStage;
+
+  public ReloadTimings() {
+    this.nanosByStage = Collections.synchronizedMap(new EnumMap<>(ReloadStage.class));
+    this.allocatedBytesByStage = Collections.synchronizedMap(new EnumMap<>(ReloadStage.class));
+  }
+
+  void add(ReloadStage stage, long nanos, long allocatedBytes) {
+    nanosByStage.merge(stage, nanos, Long::sum);
+    allocatedBytesByStage.merge(stage, allocatedBytes, Long::sum);
+  }
+
+  public long getNanos(ReloadStage stage) {
+    return nanosByStage.getOrDefault(stage, 0L);
+  }
+
+  /**
+   * Bytes allocated by the thread which ran the stage, zero if allocations cannot
+   * be measured on this JVM, see {@link ConfigMetrics#isAllocationTrackingSupported()}
+   */
+  public long getAllocatedBytes(ReloadStage stage) {
+    return allocatedBytesByStage.getOrDefault(stage, 0L);
+  }
+
+  public long getTotalNanos() {
+    return sumOfAllStages(nanosByStage);
+  }
+
+  public long getTotalAllocatedBytes() {
+    return sumOfAllStages(allocatedBytesByStage);
+  }
+
+  private static long sumOfAllStages(Map<ReloadStage, Long> valueByStage) {
+    var total = 0L;
+
+    for (var stage : ReloadStage.values())
+      total += valueByStage.getOrDefault(stage, 0L);
+
+    return total;
+  }
+
+  @Override
+  public String toString() {
+    var result = new StringBuilder();
+
+    for (var stage : ReloadStage.values()) {
+      var nanos = nanosByStage.getOrDefault(stage, 0L);
+
+      // Stages which did not run (unchanged files, no pre-processor) only clutter the output
+      if (nanos == 0)
+        continue;
+
+      if (!result.isEmpty())
+        result.append(", ");
+
+      result.append(stage.name()).append('=').append(nanos / 1000 / 1000.0).append("ms");
+
+      var allocatedBytes = allocatedBytesByStage.getOrDefault(stage, 0L);
+
+      if (allocatedBytes > 0)
+        result.append('/').append(allocatedBytes / 1024).append("KiB");
+    }
+
+    return result.toString();
+  }
+}
@@ -0,0 +1,65 @@
+package me.blvckbytes.bukkitevaluable;
+
+/**
+ * Immutable snapshot of all measurements of a stage
+ */
+public class StageStatistics {
+
+  private final long count;
+  private final long totalNanos;
+  private final long maxNanos;
+  private final long lastNanos;
+  private final long totalAllocatedBytes;
+  private final long lastAllocatedBytes;
+
+  StageStatistics(long count, long totalNanos, long maxNanos, long lastNanos, long totalAllocatedBytes, long lastAllocatedBytes) {
+    this.count = count;
+    this.totalNanos = totalNanos;
+    this.maxNanos = maxNanos;
+    this.lastNanos = lastNanos;
+    this.totalAllocatedBytes = totalAllocatedBytes;
+    this.lastAllocatedBytes = lastAllocatedBytes;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  public long getMaxNanos() {
+    return maxNanos;
+  }
+
+  public long getLastNanos() {
+    return lastNanos;
+  }
+
+  public long getAverageNanos() {
+    return count == 0 ? 0 : totalNanos / count;
+  }
+
+  public long getTotalAllocatedBytes() {
+    return totalAllocatedBytes;
+  }
+
+  public long getLastAllocatedBytes() {
+    return lastAllocatedBytes;
+  }
+
+  @Override
+  public String toString() {
+    return (
+      "StageStatistics{" +
+      "count=" + count +
+      ", totalNanos=" + totalNanos +
+      ", maxNanos=" + maxNanos +
+      ", lastNanos=" + lastNanos +
+      ", totalAllocatedBytes=" + totalAllocatedBytes +
+      ", lastAllocatedBytes=" + lastAllocatedBytes +
+      '}'
+    );
+  }
+}
@@ -0,0 +1,48 @@
+package me.blvckbytes.bukkitevaluable;
+
+/**
+ * Measures consecutive stages of loading a file on a single thread, where the end of
+ * one stage marks the beginning of the next; measurements are reported to both the
+ * timings of the current reload and the manager's long-lived metrics
+ */
+class StageTimer {
+
+  private final ReloadTimings timings;
+  private final ConfigMetrics metrics;
+  private final String fileName;
+
+  private long stageStartNanos;
+  private long stageStartAllocatedBytes;
+
+  StageTimer(ReloadTimings timings, ConfigMetrics metrics, String fileName) {
+    this.timings = timings;
+    this.metrics = metrics;
+    this.fileName = fileName;
+    restart();
+  }
+
+  /**
+   * Marks the beginning of the next stage, discarding the time spent since the last one completed
+   */
+  void restart() {
+    this.stageStartNanos = System.nanoTime();
+    this.stageStartAllocatedBytes = ConfigMetrics.getCurrentThreadAllocatedBytes();
+  }
+
+  /**
+   * Completes the current stage and begins the next one
+   */
+  void complete(ReloadStage stage) {
+    var nanos = System.nanoTime() - stageStartNanos;
+    var allocatedBytes = 0L;
+
+    // Measuring may have been enabled mid-stage, in which case there's no valid starting point
+    if (stageStartAllocatedBytes > 0)
+      allocatedBytes = Math.max(0, ConfigMetrics.getCurrentThreadAllocatedBytes() - stageStartAllocatedBytes);
+
+    timings.add(stage, nanos, allocatedBytes);
+    metrics.recordStage(fileName, stage, nanos, allocatedBytes);
+
+    restart();
+  }
+}
@@ -0,0 +1,120 @@
+package me.blvckbytes.bukkitevaluable;
+
+import me.blvckbytes.bbconfigmapper.ScalarType;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A single line of a multi-line value, whose rendered result is kept alongside the values of all
+ * environment variables it read while rendering, so that it's only rendered again once any of them
+ * changed. Lines which iterate the environment in bulk, which call functions (as these may depend on
+ * the caller or on the time of invocation), or which read values that are not plain values (and may
+ * thus mutate without changing their identity), are rendered on every request. Just as with constant
+ * folding, the variables of the evaluator's base environment are considered to be constant.
+ */
+class TrackedLine {
+
+  private final BukkitEvaluable evaluable;
+
+  private String @Nullable [] dependencies;
+  private Object @Nullable [] dependencyValues;
+  private @Nullable String result;
+
+  TrackedLine(BukkitEvaluable evaluable) {
+    this.evaluable = evaluable;
+  }
+
+  synchronized @Nullable String render(IEvaluationEnvironment environment) {
+    if (dependencies != null) {
+      var currentValues = readValues(environment, dependencies);
+
+      if (currentValues != null && Arrays.equals(currentValues, dependencyValues))
+        return result;
+    }
+
+    var recordingEnvironment = new DependencyRecordingEnvironment(environment);
+    var renderedResult = evaluable.<String>asScalar(ScalarType.STRING_PRESERVE_NULLS, recordingEnvironment);
+
+    dependencies = null;
+    dependencyValues = null;
+    result = null;
+
+    if (recordingEnvironment.hasAccessedAllVariables() || recordingEnvironment.hasAccessedFunctions())
+      return renderedResult;
+
+    var accessedVariables = recordingEnvironment.getAccessedVariables().toArray(String[]::new);
+    var accessedValues = collectValues(environment, accessedVariables, recordingEnvironment.getReadValues());
+
+    if (accessedValues == null)
+      return renderedResult;
+
+    dependencies = accessedVariables;
+    dependencyValues = accessedValues;
+    result = renderedResult;
+
+    return renderedResult;
+  }
+
+  /**
+   * @return Values of the variables in the order of their names, null if any of them is not a plain value
+   */
+  private static Object @Nullable [] readValues(IEvaluationEnvironment environment, String[] names) {
+    return collectValues(environment, names, Map.of());
+  }
+
+  /**
+   * Collects the values of the variables in the order of their names, where values which have already
+   * been read while rendering are taken as they were, so that suppliers are not invoked a second time and
+   * the stored values are guaranteed to be those which the result has been rendered from; only variables
+   * which have merely been tested for their existence are read from the environment
+   * @return Values of the variables, null if any of them is not a plain value
+   */
+  private static Object @Nullable [] collectValues(
+    IEvaluationEnvironment environment,
+    String[] names,
+    Map<String, @Nullable Object> readValues
+  ) {
+    var liveVariables = environment.getLiveVariables();
+    var staticVariables = environment.getStaticVariables();
+    var values = new Object[names.length];
+
+    for (var i = 0; i < names.length; ++i) {
+      Object value;
+
+      if (readValues.containsKey(names[i]))
+        value = readValues.get(names[i]);
+      else {
+        var supplier = liveVariables.get(names[i]);
+        value = supplier != null ? supplier.get() : staticVariables.get(names[i]);
+      }
+
+      if (!isPlainValue(value))
+        return null;
+
+      values[i] = value;
+    }
+
+    return values;
+  }
+
+  private static boolean isPlainValue(@Nullable Object value) {
+    return (
+      value == null
+      || value instanceof String
+      || value instanceof Integer
+      || value instanceof Long
+      || value instanceof Double
+      || value instanceof Float
+      || value instanceof Short
+      || value instanceof Byte
+      || value instanceof Boolean
+      || value instanceof Character
+      || value instanceof Enum<?>
+      || value instanceof UUID
+    );
+  }
+}
@@ -0,0 +1,6 @@
+package me.blvckbytes.bukkitevaluable.applicator;
+
+public enum DisplayChannel {
+  ACTION_BAR,
+  TITLE
+}
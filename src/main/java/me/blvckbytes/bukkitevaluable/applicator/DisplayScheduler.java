@@ -0,0 +1,300 @@
+package me.blvckbytes.bukkitevaluable.applicator;
+
+import me.blvckbytes.bukkitevaluable.BukkitEvaluable;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * Periodically refreshes action-bars and titles of players, while keeping the last rendered text of each
+ * player and channel, so that packets are only sent if the text changed (or if it's about to disappear on
+ * the client). Rendering and sending is delegated to the applicator of each evaluable. Players are spread
+ * evenly across the ticks of an interval by their id, so that refreshing many players does not spike a single
+ * tick. Must only be accessed from the server thread.
+ */
+public class DisplayScheduler implements Listener, AutoCloseable {
+
+  // Action-bars fade out on the client after about three seconds without receiving the text again
+  public static final int ACTION_BAR_CLIENT_DISPLAY_TICKS = 60;
+  public static final int DEFAULT_ACTION_BAR_KEEP_ALIVE_TICKS = 40;
+
+  private final Plugin plugin;
+  private final int intervalTicks;
+  private final int actionBarKeepAliveTicks;
+
+  private final List<Map<UUID, PlayerDisplays>> displaysBySlot;
+  private final Map<UUID, PlayerDisplays> displaysByPlayerId;
+
+  private @Nullable BukkitTask task;
+  private long currentTick;
+
+  /**
+   * @param intervalTicks Number of ticks between two refreshes of the same player
+   * @param actionBarKeepAliveTicks Number of ticks after which an unchanged action-bar is sent again, zero
+   *                                to never do so; may not exceed {@link #ACTION_BAR_CLIENT_DISPLAY_TICKS}
+   */
+  public DisplayScheduler(Plugin plugin, int intervalTicks, int actionBarKeepAliveTicks) {
+    if (intervalTicks <= 0)
+      throw new IllegalArgumentException("The refresh interval has to be positive");
+
+    if (actionBarKeepAliveTicks < 0)
+      throw new IllegalArgumentException("The action-bar keep-alive may not be negative");
+
+    if (actionBarKeepAliveTicks > ACTION_BAR_CLIENT_DISPLAY_TICKS)
+      throw new IllegalArgumentException("The action-bar keep-alive may not exceed the client's display time of " + ACTION_BAR_CLIENT_DISPLAY_TICKS + " ticks");
+
+    this.plugin = plugin;
+    this.intervalTicks = intervalTicks;
+    this.actionBarKeepAliveTicks = actionBarKeepAliveTicks;
+    this.displaysBySlot = new ArrayList<>(intervalTicks);
+    this.displaysByPlayerId = new HashMap<>();
+
+    for (var i = 0; i < intervalTicks; ++i)
+      displaysBySlot.add(new HashMap<>());
+  }
+
+  public DisplayScheduler(Plugin plugin, int intervalTicks) {
+    this(plugin, intervalTicks, DEFAULT_ACTION_BAR_KEEP_ALIVE_TICKS);
+  }
+
+  public void start() {
+    if (task != null)
+      return;
+
+    Bukkit.getPluginManager().registerEvents(this, plugin);
+    task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+  }
+
+  @Override
+  public void close() {
+    if (task == null)
+      return;
+
+    task.cancel();
+    task = null;
+
+    HandlerList.unregisterAll(this);
+
+    displaysByPlayerId.clear();
+    displaysBySlot.forEach(Map::clear);
+  }
+
+  /**
+   * Shows an action-bar message to the player, which is re-evaluated on every refresh
+   */
+  public void setActionBar(Player player, BukkitEvaluable message, IEvaluationEnvironment environment) {
+    var display = new ActionBarDisplay(message, environment);
+    getOrCreateDisplays(player).displayByChannel.put(DisplayChannel.ACTION_BAR, display);
+    display.refresh(player, currentTick, true);
+  }
+
+  /**
+   * Shows titles to the player, which are re-evaluated on every refresh; unchanged titles are never
+   * sent again, as that would fade them in anew and keep them up for longer than requested
+   */
+  public void setTitles(
+    Player player,
+    @Nullable BukkitEvaluable title, @Nullable BukkitEvaluable subTitle,
+    IEvaluationEnvironment environment,
+    int fadeIn, int stay, int fadeOut
+  ) {
+    var display = new TitleDisplay(title, subTitle, environment, fadeIn, stay, fadeOut);
+    getOrCreateDisplays(player).displayByChannel.put(DisplayChannel.TITLE, display);
+    display.refresh(player, currentTick, true);
+  }
+
+  public void clear(Player player, DisplayChannel channel) {
+    var displays = displaysByPlayerId.get(player.getUniqueId());
+
+    if (displays == null)
+      return;
+
+    if (displays.displayByChannel.remove(channel) != null && channel == DisplayChannel.TITLE)
+      player.resetTitle();
+
+    if (displays.displayByChannel.isEmpty())
+      removeDisplays(player.getUniqueId());
+  }
+
+  public void clear(Player player) {
+    for (var channel : DisplayChannel.values())
+      clear(player, channel);
+  }
+
+  @EventHandler
+  public void onQuit(PlayerQuitEvent event) {
+    removeDisplays(event.getPlayer().getUniqueId());
+  }
+
+  /**
+   * Refreshes all players of the current slot and advances to the next tick; invoked by the task once per tick
+   */
+  void tick() {
+    var slotDisplays = displaysBySlot.get((int) (currentTick % intervalTicks));
+
+    for (var displays : slotDisplays.values()) {
+      for (var display : displays.displayByChannel.values()) {
+        // A single faulty display should not keep all others from being refreshed
+        try {
+          display.refresh(displays.player, currentTick, false);
+        } catch (Exception e) {
+          plugin.getLogger().log(Level.SEVERE, "Could not refresh a display of " + displays.player.getName(), e);
+        }
+      }
+    }
+
+    ++currentTick;
+  }
+
+  private PlayerDisplays getOrCreateDisplays(Player player) {
+    return displaysByPlayerId.computeIfAbsent(player.getUniqueId(), playerId -> {
+      var displays = new PlayerDisplays(player);
+      displaysBySlot.get(getSlot(playerId)).put(playerId, displays);
+      return displays;
+    });
+  }
+
+  private void removeDisplays(UUID playerId) {
+    if (displaysByPlayerId.remove(playerId) != null)
+      displaysBySlot.get(getSlot(playerId)).remove(playerId);
+  }
+
+  private int getSlot(UUID playerId) {
+    return Math.floorMod(playerId.hashCode(), intervalTicks);
+  }
+
+  private static class PlayerDisplays {
+
+    private final Player player;
+    private final Map<DisplayChannel, Display> displayByChannel;
+
+    private PlayerDisplays(Player player) {
+      this.player = player;
+      this.displayByChannel = new EnumMap<>(DisplayChannel.class);
+    }
+  }
+
+  private abstract static class Display {
+
+    private @Nullable String lastText;
+    private long lastSentTick;
+
+    /**
+     * Renders the current text and sends it if it differs from the last one, or if it's due to be kept alive
+     */
+    void refresh(Player player, long currentTick, boolean force) {
+      var text = render();
+      var keepAliveTicks = getKeepAliveTicks();
+
+      var isDue = force || !text.equals(lastText) || (keepAliveTicks > 0 && currentTick - lastSentTick >= keepAliveTicks);
+
+      if (!isDue)
+        return;
+
+      send(player);
+
+      lastText = text;
+      lastSentTick = currentTick;
+    }
+
+    /**
+     * @return Text which identifies the displayed contents, to be compared against on the next refresh
+     */
+    abstract String render();
+
+    /**
+     * Sends the contents of the last call to {@link #render()}
+     */
+    abstract void send(Player player);
+
+    /**
+     * @return Number of ticks after which unchanged contents are sent again, zero if never
+     */
+    abstract int getKeepAliveTicks();
+  }
+
+  private class ActionBarDisplay extends Display {
+
+    private final BukkitEvaluable message;
+    private final IEvaluationEnvironment environment;
+
+    private @Nullable String renderedMessage;
+
+    private ActionBarDisplay(BukkitEvaluable message, IEvaluationEnvironment environment) {
+      this.message = message;
+      this.environment = environment;
+    }
+
+    @Override
+    String render() {
+      renderedMessage = message.applicator.renderActionBarMessage(message, environment);
+      return renderedMessage;
+    }
+
+    @Override
+    void send(Player player) {
+      message.applicator.sendRenderedActionBarMessage(player, renderedMessage);
+    }
+
+    @Override
+    int getKeepAliveTicks() {
+      return actionBarKeepAliveTicks;
+    }
+  }
+
+  private static class TitleDisplay extends Display {
+
+    private final @Nullable BukkitEvaluable title, subTitle;
+    private final IEvaluationEnvironment environment;
+    private final int fadeIn, stay, fadeOut;
+
+    private @Nullable String renderedTitle, renderedSubTitle;
+
+    private TitleDisplay(
+      @Nullable BukkitEvaluable title, @Nullable BukkitEvaluable subTitle,
+      IEvaluationEnvironment environment,
+      int fadeIn, int stay, int fadeOut
+    ) {
+      this.title = title;
+      this.subTitle = subTitle;
+      this.environment = environment;
+      this.fadeIn = fadeIn;
+      this.stay = stay;
+      this.fadeOut = fadeOut;
+    }
+
+    @Override
+    String render() {
+      renderedTitle = title == null ? null : title.applicator.renderTitle(title, environment);
+      renderedSubTitle = subTitle == null ? null : subTitle.applicator.renderTitle(subTitle, environment);
+
+      // Separated by a character which does not occur within chat-text
+      return renderedTitle + '\0' + renderedSubTitle;
+    }
+
+    @Override
+    void send(Player player) {
+      var applicator = title != null ? title.applicator : subTitle != null ? subTitle.applicator : null;
+
+      if (applicator == null)
+        return;
+
+      applicator.sendRenderedTitles(player, renderedTitle, renderedSubTitle, fadeIn, stay, fadeOut);
+    }
+
+    @Override
+    int getKeepAliveTicks() {
+      return 0;
+    }
+  }
+}
@@ -1,21 +1,134 @@
 package me.blvckbytes.bukkitevaluable.applicator;
 
+import me.blvckbytes.bbconfigmapper.ScalarType;
 import me.blvckbytes.bukkitevaluable.BukkitEvaluable;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
 import org.bukkit.command.CommandSender;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
 public interface EvaluableApplicator {
 
   void setDisplayName(ItemMeta meta, BukkitEvaluable evaluable, IEvaluationEnvironment environment);
 
   void setLore(ItemMeta meta, BukkitEvaluable evaluable, IEvaluationEnvironment environment, boolean override);
 
+  /**
+   * Evaluates the lines of a lore into the provided buffer, skipping null-lines, without touching any
+   * item-meta; allows to assemble the lore of multiple blocks before writing it to the meta once
+   */
+  default void appendLore(List<String> loreLines, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+    for (var loreLine : evaluable.asList(ScalarType.STRING_PRESERVE_NULLS, environment)) {
+      if (loreLine != null)
+        loreLines.add(loreLine);
+    }
+  }
+
   void sendMessage(CommandSender receiver, BukkitEvaluable evaluable, IEvaluationEnvironment environment);
 
+  /**
+   * Sends a message, where multiple lines are either sent individually or joined into a single chat
+   * message; the default implementation does not support joining and relays to the plain sendMessage
+   */
+  default void sendMessage(CommandSender receiver, BukkitEvaluable evaluable, IEvaluationEnvironment environment, MessageDelivery delivery) {
+    sendMessage(receiver, evaluable, environment);
+  }
+
   void sendActionBarMessage(CommandSender receiver, BukkitEvaluable evaluable, IEvaluationEnvironment environment);
 
+  /**
+   * Renders an action-bar message into the text which {@link #sendActionBarMessage} would display, without
+   * sending it yet; allows callers to compare against previously sent text before sending it again
+   */
+  default String renderActionBarMessage(BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+    return evaluable.asScalar(ScalarType.STRING, environment);
+  }
+
+  /**
+   * Sends an action-bar message which has been rendered by {@link #renderActionBarMessage} before
+   */
+  default void sendRenderedActionBarMessage(CommandSender receiver, String message) {
+    sendActionBarMessage(receiver, new BukkitEvaluable(message, null, this), new EvaluationEnvironmentBuilder().build());
+  }
+
+  /**
+   * Sends a message to all receivers, while only evaluating it once; the default
+   * implementation falls back to sending it to each receiver individually
+   */
+  default void broadcastMessage(Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+    broadcastMessage(receivers, evaluable, environment, MessageDelivery.PER_LINE);
+  }
+
+  default void broadcastMessage(
+    Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable,
+    IEvaluationEnvironment environment, MessageDelivery delivery
+  ) {
+    for (var receiver : receivers)
+      sendMessage(receiver, evaluable, environment, delivery);
+  }
+
+  /**
+   * Sends a message to all receivers, while only evaluating it once per distinct key; receivers are grouped
+   * by the equality of their keys (a locale, a rank, etc.), and the environment of a group is only created once
+   * @param keyByReceiver Key of a receiver, where all receivers of equal keys have to render to the same message
+   * @param environmentByKey Environment to evaluate the message of a group of receivers in
+   */
+  default <K> void broadcastMessage(
+    Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable,
+    Function<? super CommandSender, ? extends K> keyByReceiver,
+    Function<? super K, ? extends IEvaluationEnvironment> environmentByKey
+  ) {
+    broadcastMessage(receivers, evaluable, keyByReceiver, environmentByKey, MessageDelivery.PER_LINE);
+  }
+
+  default <K> void broadcastMessage(
+    Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable,
+    Function<? super CommandSender, ? extends K> keyByReceiver,
+    Function<? super K, ? extends IEvaluationEnvironment> environmentByKey,
+    MessageDelivery delivery
+  ) {
+    var environmentByGroupKey = new HashMap<K, IEvaluationEnvironment>();
+
+    for (var receiver : receivers) {
+      var environment = environmentByGroupKey.computeIfAbsent(keyByReceiver.apply(receiver), environmentByKey);
+      sendMessage(receiver, evaluable, environment, delivery);
+    }
+  }
+
+  /**
+   * Sends an action-bar message to all receivers, while only evaluating it once; the default
+   * implementation falls back to sending it to each receiver individually
+   */
+  default void broadcastActionBarMessage(Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+    for (var receiver : receivers)
+      sendActionBarMessage(receiver, evaluable, environment);
+  }
+
+  /**
+   * Sends an action-bar message to all receivers, while only evaluating it once per distinct key; receivers
+   * are grouped by the equality of their keys, and the environment of a group is only created once
+   * @param keyByReceiver Key of a receiver, where all receivers of equal keys have to render to the same message
+   * @param environmentByKey Environment to evaluate the message of a group of receivers in
+   */
+  default <K> void broadcastActionBarMessage(
+    Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable,
+    Function<? super CommandSender, ? extends K> keyByReceiver,
+    Function<? super K, ? extends IEvaluationEnvironment> environmentByKey
+  ) {
+    var environmentByGroupKey = new HashMap<K, IEvaluationEnvironment>();
+
+    for (var receiver : receivers) {
+      var environment = environmentByGroupKey.computeIfAbsent(keyByReceiver.apply(receiver), environmentByKey);
+      sendActionBarMessage(receiver, evaluable, environment);
+    }
+  }
+
   void sendTitles(
     CommandSender receiver,
     @Nullable BukkitEvaluable title, @Nullable IEvaluationEnvironment titleEnvironment,
@@ -23,4 +136,28 @@ public interface EvaluableApplicator {
     int fadeIn, int stay, int fadeOut
   );
 
+  /**
+   * Renders a title or a subtitle into the text which {@link #sendTitles} would display, without sending it yet
+   */
+  default @Nullable String renderTitle(BukkitEvaluable title, IEvaluationEnvironment environment) {
+    return title.asScalar(ScalarType.STRING, environment);
+  }
+
+  /**
+   * Sends titles which have been rendered by {@link #renderTitle} before
+   */
+  default void sendRenderedTitles(
+    CommandSender receiver,
+    @Nullable String title, @Nullable String subTitle,
+    int fadeIn, int stay, int fadeOut
+  ) {
+    var environment = new EvaluationEnvironmentBuilder().build();
+
+    sendTitles(
+      receiver,
+      title == null ? null : new BukkitEvaluable(title, null, this), environment,
+      subTitle == null ? null : new BukkitEvaluable(subTitle, null, this), environment,
+      fadeIn, stay, fadeOut
+    );
+  }
 }
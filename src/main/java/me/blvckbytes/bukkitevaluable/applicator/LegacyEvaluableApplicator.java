@@ -13,7 +13,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.function.Function;
 
 public class LegacyEvaluableApplicator implements EvaluableApplicator {
 
@@ -27,13 +29,21 @@ public class LegacyEvaluableApplicator implements EvaluableApplicator {
 
   @Override
   public void setLore(ItemMeta meta, BukkitEvaluable evaluable, IEvaluationEnvironment environment, boolean override) {
-    List<String> loreLines = meta.getLore();
+    // The meta hands out a copy, which may thus directly be used as the buffer
+    List<String> loreLines = override ? null : meta.getLore();
 
     if (loreLines == null)
       loreLines = new ArrayList<>();
 
-    if (override)
-      loreLines.clear();
+    appendLore(loreLines, evaluable, environment);
+    meta.setLore(loreLines);
+  }
+
+  @Override
+  public void appendLore(List<String> loreLines, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+    // Lines of lists are rendered individually, as to only re-evaluate those whose inputs changed
+    if (evaluable.appendTrackedLines(loreLines, environment))
+      return;
 
     for (var loreLineMessage : evaluable.asList(ScalarType.STRING_PRESERVE_NULLS, environment)) {
       if (loreLineMessage == null)
@@ -41,45 +51,193 @@ public class LegacyEvaluableApplicator implements EvaluableApplicator {
 
       loreLines.add(loreLineMessage);
     }
-
-    meta.setLore(loreLines);
   }
 
   @Override
   public void sendMessage(CommandSender receiver, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
-    var value = evaluable.asRawObject(environment);
+    sendMessage(receiver, evaluable, environment, MessageDelivery.PER_LINE);
+  }
 
-    if (value instanceof Collection<?> collection) {
-      collection.forEach(item -> {
+  @Override
+  public void sendMessage(CommandSender receiver, BukkitEvaluable evaluable, IEvaluationEnvironment environment, MessageDelivery delivery) {
+    renderMessage(evaluable, environment, delivery).sendTo(receiver);
+  }
 
-        if (item instanceof AExpression itemExpression) {
-          var expressionValue = evaluable.evaluator.evaluateExpression(itemExpression, environment);
+  @Override
+  public void sendActionBarMessage(CommandSender receiver, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+    if (!(receiver instanceof Player player))
+      return;
 
-          if (expressionValue instanceof Collection<?> resultLines) {
-            resultLines.forEach(resultLine -> receiver.sendMessage(String.valueOf(resultLine)));
-            return;
-          }
+    player.spigot().sendMessage(ChatMessageType.ACTION_BAR, renderActionBarComponent(evaluable, environment));
+  }
 
-          receiver.sendMessage(String.valueOf(expressionValue));
-          return;
-        }
+  @Override
+  public void sendRenderedActionBarMessage(CommandSender receiver, String message) {
+    if (!(receiver instanceof Player player))
+      return;
 
-        receiver.sendMessage(String.valueOf(item));
-      });
+    player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(message));
+  }
 
+  @Override
+  public void broadcastMessage(
+    Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable,
+    IEvaluationEnvironment environment, MessageDelivery delivery
+  ) {
+    if (receivers.isEmpty())
       return;
+
+    var message = renderMessage(evaluable, environment, delivery);
+
+    for (var receiver : receivers)
+      message.sendTo(receiver);
+  }
+
+  @Override
+  public <K> void broadcastMessage(
+    Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable,
+    Function<? super CommandSender, ? extends K> keyByReceiver,
+    Function<? super K, ? extends IEvaluationEnvironment> environmentByKey,
+    MessageDelivery delivery
+  ) {
+    var messageByKey = new HashMap<K, RenderedMessage>();
+
+    for (var receiver : receivers) {
+      var message = messageByKey.computeIfAbsent(
+        keyByReceiver.apply(receiver),
+        key -> renderMessage(evaluable, environmentByKey.apply(key), delivery)
+      );
+
+      message.sendTo(receiver);
     }
+  }
+
+  @Override
+  public void broadcastActionBarMessage(Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+    TextComponent message = null;
+
+    for (var receiver : receivers) {
+      if (!(receiver instanceof Player player))
+        continue;
 
-    receiver.sendMessage(evaluable.asScalar(ScalarType.STRING, environment));
+      // Only render once there's at least one player to receive the message
+      if (message == null)
+        message = renderActionBarComponent(evaluable, environment);
+
+      player.spigot().sendMessage(ChatMessageType.ACTION_BAR, message);
+    }
   }
 
   @Override
-  public void sendActionBarMessage(CommandSender receiver, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
-    if (!(receiver instanceof Player player))
-      return;
+  public <K> void broadcastActionBarMessage(
+    Collection<? extends CommandSender> receivers, BukkitEvaluable evaluable,
+    Function<? super CommandSender, ? extends K> keyByReceiver,
+    Function<? super K, ? extends IEvaluationEnvironment> environmentByKey
+  ) {
+    var messageByKey = new HashMap<K, TextComponent>();
 
-    var message = evaluable.asScalar(ScalarType.STRING, environment);
-    player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(message));
+    for (var receiver : receivers) {
+      if (!(receiver instanceof Player player))
+        continue;
+
+      var message = messageByKey.computeIfAbsent(
+        keyByReceiver.apply(receiver),
+        key -> renderActionBarComponent(evaluable, environmentByKey.apply(key))
+      );
+
+      player.spigot().sendMessage(ChatMessageType.ACTION_BAR, message);
+    }
+  }
+
+  private TextComponent renderActionBarComponent(BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+    return new TextComponent(renderActionBarMessage(evaluable, environment));
+  }
+
+  /**
+   * Renders all lines of a message, where collections (as well as collections resulting
+   * from expressions within collections) make up one line per item
+   */
+  private RenderedMessage renderMessage(BukkitEvaluable evaluable, IEvaluationEnvironment environment, MessageDelivery delivery) {
+    var value = evaluable.asRawObject(environment);
+
+    if (!(value instanceof Collection<?> collection))
+      return new RenderedMessage(List.of(evaluable.asScalar(ScalarType.STRING, environment)), delivery);
+
+    var lines = new ArrayList<String>(collection.size());
+
+    for (var item : collection) {
+      if (item instanceof AExpression itemExpression) {
+        var expressionValue = evaluable.evaluator.evaluateExpression(itemExpression, environment);
+
+        if (expressionValue instanceof Collection<?> resultLines) {
+          for (var resultLine : resultLines)
+            addLine(lines, resultLine);
+
+          continue;
+        }
+
+        addLine(lines, expressionValue);
+        continue;
+      }
+
+      addLine(lines, item);
+    }
+
+    return new RenderedMessage(lines, delivery);
+  }
+
+  private static void addLine(List<String> lines, @Nullable Object value) {
+    // Strings make up the vast majority of lines, which need no conversion at all
+    lines.add(value instanceof String string ? string : String.valueOf(value));
+  }
+
+  /**
+   * Lines of a message which have been rendered once and may be sent to any number of receivers;
+   * joined payloads are only created once they're first needed
+   */
+  private static class RenderedMessage {
+
+    private final List<String> lines;
+    private final MessageDelivery delivery;
+
+    private @Nullable String joinedLines;
+    private @Nullable TextComponent joinedComponent;
+
+    private RenderedMessage(List<String> lines, MessageDelivery delivery) {
+      this.lines = lines;
+      this.delivery = delivery;
+    }
+
+    private void sendTo(CommandSender receiver) {
+      if (delivery == MessageDelivery.PER_LINE || lines.size() <= 1) {
+        for (var line : lines)
+          receiver.sendMessage(line);
+
+        return;
+      }
+
+      // Plain strings are split up at line-breaks into separate messages by the server, while components are not
+      if (receiver instanceof Player player) {
+        if (joinedComponent == null)
+          joinedComponent = new TextComponent(getJoinedLines());
+
+        player.spigot().sendMessage(joinedComponent);
+        return;
+      }
+
+      receiver.sendMessage(getJoinedLines());
+    }
+
+    /**
+     * Joins all lines by line-breaks, where each line after the first starts out by a reset, as formats
+     * would otherwise carry over from the previous line, while separately sent lines start out plain
+     */
+    private String getJoinedLines() {
+      if (joinedLines == null)
+        joinedLines = String.join("\n§r", lines);
+
+      return joinedLines;
+    }
   }
 
   @Override
@@ -95,14 +253,26 @@ public class LegacyEvaluableApplicator implements EvaluableApplicator {
     String titleMessage = null, subTitleMessage = null;
 
     if (title != null && titleEnvironment != null)
-      titleMessage = title.asScalar(ScalarType.STRING, titleEnvironment);
+      titleMessage = renderTitle(title, titleEnvironment);
 
     if (subTitle != null && subTitleEnvironment != null)
-      subTitleMessage = subTitle.asScalar(ScalarType.STRING, subTitleEnvironment);
+      subTitleMessage = renderTitle(subTitle, subTitleEnvironment);
+
+    sendRenderedTitles(player, titleMessage, subTitleMessage, fadeIn, stay, fadeOut);
+  }
+
+  @Override
+  public void sendRenderedTitles(
+    CommandSender receiver,
+    @Nullable String title, @Nullable String subTitle,
+    int fadeIn, int stay, int fadeOut
+  ) {
+    if (!(receiver instanceof Player player))
+      return;
 
-    if (titleMessage == null && subTitleMessage == null)
+    if (title == null && subTitle == null)
       return;
 
-    player.sendTitle(titleMessage, subTitleMessage, fadeIn, stay, fadeOut);
+    player.sendTitle(title, subTitle, fadeIn, stay, fadeOut);
   }
 }
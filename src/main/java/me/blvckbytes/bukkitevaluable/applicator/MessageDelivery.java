@@ -0,0 +1,11 @@
+package me.blvckbytes.bukkitevaluable.applicator;
+
+/**
+ * How the lines of a multi-line message are delivered to a receiver
+ */
+public enum MessageDelivery {
+  // Each line is sent on its own, one chat-message (packet) per line
+  PER_LINE,
+  // All lines are joined by line-breaks and sent as a single chat-message
+  JOINED
+}
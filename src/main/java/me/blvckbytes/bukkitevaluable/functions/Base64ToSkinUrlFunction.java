@@ -24,42 +24,46 @@
 
 package me.blvckbytes.bukkitevaluable.functions;
 
-import com.google.gson.JsonParser;
+import me.blvckbytes.bukkitevaluable.BoundedCache;
+import me.blvckbytes.bukkitevaluable.textures.SkinTextures;
 import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Decodes the passed base64 encoded string, parses it as JSON and
- * returns the extracted textures.SKIN.url string value
+ * returns the extracted textures.SKIN.url string value; results are memoized
  */
 public class Base64ToSkinUrlFunction extends AExpressionFunction {
 
-  private final JsonParser jsonParser;
+  public static final int DEFAULT_CACHE_SIZE = 1024;
+
+  // Malformed inputs are cached as empty, as the cache doesn't hold on to nulls and would decode them on every call
+  private final BoundedCache<String, Optional<String>> skinUrlByBase64;
+
+  public Base64ToSkinUrlFunction(int cacheSize) {
+    this.skinUrlByBase64 = new BoundedCache<>(cacheSize);
+  }
 
   public Base64ToSkinUrlFunction() {
-    this.jsonParser = new JsonParser();
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  public BoundedCache<String, Optional<String>> getCache() {
+    return skinUrlByBase64;
   }
 
   @Override
-  public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+  public @Nullable Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
     String base64String = nonNull(args, 0);
 
-    byte[] decodedBytes = Base64.getDecoder().decode(base64String);
-    String decodedString = new String(decodedBytes);
-
     // {"textures":{"SKIN":{"url": ?}}}
-    return this.jsonParser.parse(decodedString)
-      .getAsJsonObject()
-      .getAsJsonObject("textures")
-      .getAsJsonObject("SKIN")
-      .get("url")
-      .getAsString();
+    return skinUrlByBase64.getOrResolve(base64String, key -> Optional.ofNullable(SkinTextures.extractSkinUrl(key))).orElse(null);
   }
 
   @Override
@@ -24,27 +24,42 @@
 
 package me.blvckbytes.bukkitevaluable.functions;
 
+import me.blvckbytes.bukkitevaluable.BoundedCache;
+import me.blvckbytes.bukkitevaluable.textures.SkinTextures;
 import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 
 /**
  * Creates the json string required to provide skin texture urls and
- * returns the base64 encoded value of that json string.
+ * returns the base64 encoded value of that json string; results are memoized
  */
 public class SkinUrlToBase64Function extends AExpressionFunction {
 
+  public static final int DEFAULT_CACHE_SIZE = 1024;
+
+  private final BoundedCache<String, String> base64BySkinUrl;
+
+  public SkinUrlToBase64Function(int cacheSize) {
+    this.base64BySkinUrl = new BoundedCache<>(cacheSize);
+  }
+
+  public SkinUrlToBase64Function() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  public BoundedCache<String, String> getCache() {
+    return base64BySkinUrl;
+  }
+
   @Override
   public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
     String skinUrl = nonNull(args, 0);
-    String textureJson = "{\"textures\":{\"SKIN\":{\"url\":\"" + skinUrl + "\"}}}";
-    return Base64.getEncoder().encodeToString(textureJson.getBytes(StandardCharsets.UTF_8));
+    return base64BySkinUrl.getOrResolve(skinUrl, SkinTextures::encodeSkinUrl);
   }
 
   @Override
@@ -24,6 +24,11 @@
 
 package me.blvckbytes.bukkitevaluable.section;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.EnumSet;
+
 public enum ComparisonMismatch {
   IS_NULL,
   META_UNREADABLE,
@@ -38,4 +43,35 @@ public enum ComparisonMismatch {
   BASE_EFFECT_MISMATCH,
   CUSTOM_EFFECTS_MISMATCH,
   BANNER_PATTERNS_MISMATCH
+  ;
+
+  private static final ComparisonMismatch[] values = values();
+
+  /**
+   * Single bit representing this mismatch within a bitmask of mismatches
+   */
+  public final long bit = 1L << ordinal();
+
+  public static long toMask(@Nullable Collection<ComparisonMismatch> mismatches) {
+    if (mismatches == null)
+      return 0;
+
+    var mask = 0L;
+
+    for (var mismatch : mismatches)
+      mask |= mismatch.bit;
+
+    return mask;
+  }
+
+  public static EnumSet<ComparisonMismatch> fromMask(long mask) {
+    var result = EnumSet.noneOf(ComparisonMismatch.class);
+
+    for (var mismatch : values) {
+      if ((mask & mismatch.bit) != 0)
+        result.add(mismatch);
+    }
+
+    return result;
+  }
 }
@@ -0,0 +1,161 @@
+package me.blvckbytes.bukkitevaluable.section;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Checks whole inventories against a compiled {@link ItemStackMatcher} off of the main thread. Contents are
+ * snapshot on the main thread first, as live stacks may only be read there, and are then split into chunks
+ * of slots which are tested in parallel on a fork-join pool. Results are reported as one mismatch bitmask
+ * per slot (see {@link ComparisonMismatch#bit}), where zero means that the slot's item has been matched and
+ * empty slots, be they null or air, carry {@link ComparisonMismatch#IS_NULL}. The matcher's environment needs
+ * to be safe to read from multiple threads at once.
+ */
+public class InventoryScanner {
+
+  public static final int DEFAULT_CHUNK_SIZE = 64;
+
+  private final ItemStackMatcher matcher;
+  private final long nonBreakerMask;
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+
+  public InventoryScanner(ItemStackMatcher matcher, long nonBreakerMask, ForkJoinPool pool, int chunkSize) {
+    if (chunkSize <= 0)
+      throw new IllegalStateException("The chunk size of a scanner has to be positive");
+
+    this.matcher = matcher;
+    this.nonBreakerMask = nonBreakerMask;
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+  }
+
+  public InventoryScanner(ItemStackMatcher matcher, long nonBreakerMask) {
+    this(matcher, nonBreakerMask, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Copies the contents of an inventory, so that they may be read off of the main thread
+   * afterwards; has to be called on the main thread
+   */
+  public static @Nullable ItemStack[] snapshot(Inventory inventory) {
+    var contents = inventory.getContents();
+
+    for (var i = 0; i < contents.length; ++i) {
+      var item = contents[i];
+
+      if (item != null)
+        contents[i] = item.clone();
+    }
+
+    return contents;
+  }
+
+  /**
+   * Snapshots all provided inventories on the calling thread, which has to be the main thread,
+   * and scans them asynchronously afterwards
+   * @return Future of the slot mismatches of each inventory, in the order of the inventories
+   */
+  public CompletableFuture<List<long[]>> scanInventories(Collection<? extends Inventory> inventories) {
+    var snapshots = new ArrayList<ItemStack[]>(inventories.size());
+
+    for (var inventory : inventories)
+      snapshots.add(snapshot(inventory));
+
+    return scan(snapshots);
+  }
+
+  /**
+   * Scans a single snapshot asynchronously
+   * @return Future of the mismatch bitmask of each slot
+   */
+  public CompletableFuture<long[]> scan(@Nullable ItemStack[] snapshot) {
+    return CompletableFuture.supplyAsync(() -> {
+      var result = new long[snapshot.length];
+      new ScanAction(snapshot, result, 0, snapshot.length).invoke();
+      return result;
+    }, pool);
+  }
+
+  /**
+   * Scans multiple snapshots asynchronously, where all of their slots are chunked together,
+   * so that many small inventories still make up for well-sized units of work
+   * @return Future of the slot mismatches of each snapshot, in the order of the snapshots
+   */
+  public CompletableFuture<List<long[]>> scan(List<@Nullable ItemStack[]> snapshots) {
+    return CompletableFuture.supplyAsync(() -> {
+      var totalLength = 0;
+
+      for (var snapshot : snapshots)
+        totalLength += snapshot.length;
+
+      var items = new ItemStack[totalLength];
+      var offset = 0;
+
+      for (var snapshot : snapshots) {
+        System.arraycopy(snapshot, 0, items, offset, snapshot.length);
+        offset += snapshot.length;
+      }
+
+      var mismatches = new long[totalLength];
+      new ScanAction(items, mismatches, 0, totalLength).invoke();
+
+      var results = new ArrayList<long[]>(snapshots.size());
+      offset = 0;
+
+      for (var snapshot : snapshots) {
+        var result = new long[snapshot.length];
+        System.arraycopy(mismatches, offset, result, 0, snapshot.length);
+        offset += snapshot.length;
+        results.add(result);
+      }
+
+      return results;
+    }, pool);
+  }
+
+  /**
+   * Inventories may report empty slots as either null or as any kind of air, where the latter has no meta
+   */
+  private static boolean isEmpty(@Nullable ItemStack item) {
+    return item == null || item.getType().isAir();
+  }
+
+  private class ScanAction extends RecursiveAction {
+
+    private final @Nullable ItemStack[] items;
+    private final long[] mismatches;
+    private final int from, to;
+
+    private ScanAction(@Nullable ItemStack[] items, long[] mismatches, int from, int to) {
+      this.items = items;
+      this.mismatches = mismatches;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= chunkSize) {
+        for (var i = from; i < to; ++i)
+          mismatches[i] = isEmpty(items[i]) ? ComparisonMismatch.IS_NULL.bit : matcher.describe(items[i], nonBreakerMask);
+        return;
+      }
+
+      var middle = (from + to) >>> 1;
+
+      invokeAll(
+        new ScanAction(items, mismatches, from, middle),
+        new ScanAction(items, mismatches, middle, to)
+      );
+    }
+  }
+}
@@ -62,6 +62,13 @@ public class ItemStackBannerPatternSection extends AConfigSection {
     return color;
   }
 
+  /**
+   * Whether all values of this section evaluate to the same result in any environment
+   */
+  public boolean isEnvironmentIndependent() {
+    return (pattern == null || pattern.isEnvironmentIndependent()) && (color == null || color.isEnvironmentIndependent());
+  }
+
   public boolean isContainedByMeta(BannerMeta meta, IEvaluationEnvironment environment) {
     for (var currentPattern : meta.getPatterns()) {
       if (describesPattern(currentPattern, environment))
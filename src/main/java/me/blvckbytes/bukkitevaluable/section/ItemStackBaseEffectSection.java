@@ -68,6 +68,13 @@ public class ItemStackBaseEffectSection extends AConfigSection {
     return upgraded;
   }
 
+  /**
+   * Whether all values of this section evaluate to the same result in any environment
+   */
+  public boolean isEnvironmentIndependent() {
+    return type == null || type.isEnvironmentIndependent();
+  }
+
   public boolean describesData(PotionData data, IEvaluationEnvironment environment) {
     if (this.type != null) {
       PotionType potionType = this.type.asPotionType(environment);
@@ -69,6 +69,17 @@ public class ItemStackCustomEffectSection extends AConfigSection {
     );
   }
 
+  /**
+   * Whether all values of this section evaluate to the same result in any environment
+   */
+  public boolean isEnvironmentIndependent() {
+    return (
+      (effect == null || effect.isEnvironmentIndependent())
+      && (duration == null || duration.isEnvironmentIndependent())
+      && (amplifier == null || amplifier.isEnvironmentIndependent())
+    );
+  }
+
   public boolean isContainedByMeta(PotionMeta meta, IEvaluationEnvironment environment) {
     for (PotionEffect customEffect : meta.getCustomEffects()) {
       if (describesEffect(customEffect, environment))
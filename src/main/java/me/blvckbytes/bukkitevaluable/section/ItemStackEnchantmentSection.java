@@ -82,4 +82,11 @@ public class ItemStackEnchantmentSection extends AConfigSection {
   public BukkitEvaluable getLevel() {
     return level;
   }
+
+  /**
+   * Whether all values of this section evaluate to the same result in any environment
+   */
+  public boolean isEnvironmentIndependent() {
+    return enchantment.isEnvironmentIndependent() && (level == null || level.isEnvironmentIndependent());
+  }
 }
@@ -0,0 +1,371 @@
+package me.blvckbytes.bukkitevaluable.section;
+
+import com.cryptomorin.xseries.XMaterial;
+import me.blvckbytes.bukkitevaluable.ItemBuilder;
+import me.blvckbytes.bukkitevaluable.textures.SkinTextures;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.Color;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.LeatherArmorMeta;
+import org.bukkit.inventory.meta.MapMeta;
+import org.bukkit.inventory.meta.PotionMeta;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable matcher of an {@link ItemStackSection}, compiled within a fixed environment. All expected values
+ * are resolved once up-front, and checks are ordered so that cheap and selective properties are tested first.
+ * Which mismatch is reported when breaking early may thus differ from {@link ItemStackSection#describesItem},
+ * while the set of mismatches is the same if none of them break.
+ */
+public class ItemStackMatcher {
+
+  private final ItemStackSection section;
+  private final IEvaluationEnvironment environment;
+
+  private final @Nullable XMaterial type;
+  private final @Nullable Integer amount;
+
+  private final boolean disallowName;
+  private final @Nullable String name;
+
+  private final boolean disallowLore;
+  private final @Nullable List<String> lore;
+
+  private final boolean disallowFlags;
+  private final @Nullable Set<ItemFlag> flags;
+  private final MatchingMode flagsMatchingMode;
+
+  private final boolean colorSpecified;
+  private final @Nullable Color color;
+
+  private final boolean disallowEnchantments;
+  private final Enchantment @Nullable [] enchantments;
+  private final int @Nullable [] enchantmentLevels;
+  private final MatchingMode enchantmentsMatchingMode;
+
+  private final @Nullable String textures;
+  private final @Nullable String texturesHash;
+
+  private final boolean checkBaseEffect;
+  private final boolean checkCustomEffects;
+  private final boolean checkBannerPatterns;
+
+  ItemStackMatcher(
+    ItemStackSection section,
+    IEvaluationEnvironment environment,
+    @Nullable XMaterial type,
+    @Nullable Integer amount,
+    boolean disallowName,
+    @Nullable String name,
+    boolean disallowLore,
+    @Nullable List<String> lore,
+    boolean disallowFlags,
+    @Nullable Set<ItemFlag> flags,
+    MatchingMode flagsMatchingMode,
+    boolean colorSpecified,
+    @Nullable Color color,
+    boolean disallowEnchantments,
+    Enchantment @Nullable [] enchantments,
+    int @Nullable [] enchantmentLevels,
+    MatchingMode enchantmentsMatchingMode,
+    @Nullable String textures,
+    boolean checkBaseEffect,
+    boolean checkCustomEffects,
+    boolean checkBannerPatterns
+  ) {
+    this.section = section;
+    this.environment = environment;
+    this.type = type;
+    this.amount = amount;
+    this.disallowName = disallowName;
+    this.name = name;
+    this.disallowLore = disallowLore;
+    this.lore = lore == null ? null : List.copyOf(lore);
+    this.disallowFlags = disallowFlags;
+    this.flags = flags == null ? null : (flags.isEmpty() ? EnumSet.noneOf(ItemFlag.class) : EnumSet.copyOf(flags));
+    this.flagsMatchingMode = flagsMatchingMode;
+    this.colorSpecified = colorSpecified;
+    this.color = color;
+    this.disallowEnchantments = disallowEnchantments;
+    this.enchantments = enchantments;
+    this.enchantmentLevels = enchantmentLevels;
+    this.enchantmentsMatchingMode = enchantmentsMatchingMode;
+    this.textures = textures;
+    this.texturesHash = textures == null ? null : SkinTextures.hashOfBase64Textures(textures);
+    this.checkBaseEffect = checkBaseEffect;
+    this.checkCustomEffects = checkCustomEffects;
+    this.checkBannerPatterns = checkBannerPatterns;
+  }
+
+  /**
+   * Checks whether the compiled section describes the provided item, breaking on the first mismatch
+   */
+  public boolean matches(@Nullable ItemStack item) {
+    return describe(item, 0) == 0;
+  }
+
+  /**
+   * Set-based counterpart of {@link #describe(ItemStack, long)}
+   */
+  public EnumSet<ComparisonMismatch> describeItem(@Nullable ItemStack item, @Nullable Set<ComparisonMismatch> nonBreakers) {
+    return ComparisonMismatch.fromMask(describe(item, ComparisonMismatch.toMask(nonBreakers)));
+  }
+
+  /**
+   * Tests the item against each of the compiled properties
+   * @param item Item in question
+   * @param nonBreakerMask Bitmask of mismatches which do not early-return
+   * @return Bitmask of mismatches, see {@link ComparisonMismatch#bit}; zero means that the description matched
+   */
+  public long describe(@Nullable ItemStack item, long nonBreakerMask) {
+    return describe(item, null, nonBreakerMask);
+  }
+
+  /**
+   * @param knownMeta Meta of the item, if it has already been read by the caller
+   */
+  long describe(@Nullable ItemStack item, @Nullable ItemMeta knownMeta, long nonBreakerMask) {
+    if (item == null)
+      return ComparisonMismatch.IS_NULL.bit;
+
+    long mismatches = 0;
+
+    // Type and amount are read off of the stack directly, without having to copy its meta
+
+    if (type != null && !type.isSimilar(item)) {
+      mismatches |= ComparisonMismatch.TYPE_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.TYPE_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    if (amount != null && amount != item.getAmount()) {
+      mismatches |= ComparisonMismatch.AMOUNT_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.AMOUNT_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    ItemMeta meta = knownMeta != null ? knownMeta : item.getItemMeta();
+
+    if (meta == null)
+      return mismatches | ComparisonMismatch.META_UNREADABLE.bit;
+
+    if ((disallowName && meta.hasDisplayName()) || (name != null && !name.equals(meta.getDisplayName()))) {
+      mismatches |= ComparisonMismatch.DISPLAY_NAME_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.DISPLAY_NAME_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    if (!areFlagsSatisfied(meta)) {
+      mismatches |= ComparisonMismatch.FLAGS_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.FLAGS_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    if (!areEnchantmentsSatisfied(meta)) {
+      mismatches |= ComparisonMismatch.ENCHANTMENTS_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.ENCHANTMENTS_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    if (!isColorSatisfied(meta)) {
+      mismatches |= ComparisonMismatch.COLOR_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.COLOR_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    if (checkBaseEffect && !section.isBaseEffectSatisfied(meta, environment)) {
+      mismatches |= ComparisonMismatch.BASE_EFFECT_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.BASE_EFFECT_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    if (checkCustomEffects && !section.areCustomEffectsSatisfied(meta, environment)) {
+      mismatches |= ComparisonMismatch.CUSTOM_EFFECTS_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.CUSTOM_EFFECTS_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    if (checkBannerPatterns && !section.areBannerPatternsSatisfied(meta, environment)) {
+      mismatches |= ComparisonMismatch.BANNER_PATTERNS_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.BANNER_PATTERNS_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    if (!areTexturesSatisfied(meta)) {
+      mismatches |= ComparisonMismatch.TEXTURES_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.TEXTURES_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    // Lore is compared last, as reading it copies the whole list
+    if ((disallowLore && meta.hasLore()) || (lore != null && doLinesDiffer(lore, meta.getLore()))) {
+      mismatches |= ComparisonMismatch.LORE_MISMATCH.bit;
+      if (isBreaking(ComparisonMismatch.LORE_MISMATCH, nonBreakerMask))
+        return mismatches;
+    }
+
+    return mismatches;
+  }
+
+  @Nullable XMaterial getType() {
+    return type;
+  }
+
+  @Nullable String getName() {
+    return name;
+  }
+
+  boolean isDisallowName() {
+    return disallowName;
+  }
+
+  /**
+   * Set of enchantments which an item has to carry exactly in order to be matched, if any
+   */
+  @Nullable Set<Enchantment> getExactEnchantments() {
+    if (enchantments == null || disallowEnchantments || enchantmentsMatchingMode != MatchingMode.HAS_EXACT)
+      return null;
+
+    var result = new HashSet<Enchantment>();
+
+    for (var enchantment : enchantments) {
+      // Invalid sections cannot ever be matched in this mode
+      if (enchantment == null)
+        return null;
+
+      result.add(enchantment);
+    }
+
+    return result;
+  }
+
+  private static boolean isBreaking(ComparisonMismatch mismatch, long nonBreakerMask) {
+    return (nonBreakerMask & mismatch.bit) == 0;
+  }
+
+  private boolean areFlagsSatisfied(ItemMeta meta) {
+    if (!disallowFlags && flags == null)
+      return true;
+
+    var metaFlags = meta.getItemFlags();
+
+    if (disallowFlags && !metaFlags.isEmpty())
+      return false;
+
+    if (flags == null)
+      return true;
+
+    switch (flagsMatchingMode) {
+      case HAS_NOT -> {
+        for (var flag : flags) {
+          if (metaFlags.contains(flag))
+            return false;
+        }
+      }
+      case HAS_AT_LEAST, HAS_EXACT -> {
+        if (!metaFlags.containsAll(flags))
+          return false;
+
+        if (flagsMatchingMode == MatchingMode.HAS_EXACT && metaFlags.size() != flags.size())
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  private boolean areEnchantmentsSatisfied(ItemMeta meta) {
+    if (disallowEnchantments && meta.hasEnchants())
+      return false;
+
+    if (enchantments == null || enchantmentLevels == null)
+      return true;
+
+    switch (enchantmentsMatchingMode) {
+      case HAS_NOT -> {
+        for (var i = 0; i < enchantments.length; ++i) {
+          if (checkEnchantment(meta, i) == CheckResult.MATCHING_SECTION)
+            return false;
+        }
+      }
+
+      case HAS_AT_LEAST, HAS_EXACT -> {
+        for (var i = 0; i < enchantments.length; ++i) {
+          if (checkEnchantment(meta, i) != CheckResult.MATCHING_SECTION)
+            return false;
+        }
+
+        // All sections matched, so none of them were invalid
+        if (enchantmentsMatchingMode == MatchingMode.HAS_EXACT && enchantments.length != meta.getEnchants().size())
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  private CheckResult checkEnchantment(ItemMeta meta, int index) {
+    var enchantment = enchantments[index];
+
+    if (enchantment == null)
+      return CheckResult.INVALID_SECTION;
+
+    var containedLevel = meta.getEnchantLevel(enchantment);
+
+    if (containedLevel == 0)
+      return CheckResult.MISMATCHING_SECTION;
+
+    var expectedLevel = enchantmentLevels[index];
+
+    if (expectedLevel < 0 || expectedLevel == containedLevel)
+      return CheckResult.MATCHING_SECTION;
+
+    return CheckResult.MISMATCHING_SECTION;
+  }
+
+  private boolean isColorSatisfied(ItemMeta meta) {
+    if (!colorSpecified || color == null)
+      return true;
+
+    if (meta instanceof PotionMeta potionMeta)
+      return color.equals(potionMeta.getColor());
+
+    if (meta instanceof LeatherArmorMeta leatherArmorMeta)
+      return color.equals(leatherArmorMeta.getColor());
+
+    if (meta instanceof MapMeta mapMeta)
+      return color.equals(mapMeta.getColor());
+
+    return false;
+  }
+
+  private boolean areTexturesSatisfied(ItemMeta meta) {
+    if (textures == null)
+      return true;
+
+    // Rather fail safely if the handler is not available
+    if (ItemBuilder.texturesHandler == null)
+      return false;
+
+    // Textures which could not be parsed can still be equal to the item's as a whole
+    if (texturesHash == null)
+      return textures.equals(ItemBuilder.texturesHandler.getBase64Textures(meta));
+
+    return texturesHash.equals(ItemBuilder.texturesHandler.getTextureHash(meta));
+  }
+
+  private static boolean doLinesDiffer(List<String> expected, @Nullable List<String> actual) {
+    if (actual == null || expected.size() != actual.size())
+      return true;
+
+    return !expected.containsAll(actual);
+  }
+}
@@ -0,0 +1,193 @@
+package me.blvckbytes.bukkitevaluable.section;
+
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Immutable index over a large number of {@link ItemStackSection}s, compiled within a fixed environment,
+ * which classifies items without testing each and every section. Sections are bucketed by their material,
+ * then by their display-name and then by their exact set of enchantments; sections which do not constrain
+ * one of these properties (or which constrain it in a way that cannot be keyed on, like disallowing it)
+ * reside in a wildcard bucket of that level. The buckets only ever narrow down the candidates, which are
+ * then tested by their full matcher, so that all matching-modes and disallow-flags keep their semantics.
+ */
+public class ItemStackMatcherIndex {
+
+  private final List<ItemStackSection> sections;
+  private final Map<Material, NameLevel> nameLevelByMaterial;
+  private final NameLevel anyMaterialLevel;
+
+  public ItemStackMatcherIndex(Collection<? extends ItemStackSection> sections, IEvaluationEnvironment environment) {
+    this.sections = List.copyOf(sections);
+    this.nameLevelByMaterial = new EnumMap<>(Material.class);
+    this.anyMaterialLevel = new NameLevel();
+
+    var ordinal = 0;
+
+    for (var section : this.sections) {
+      var entry = new Entry(ordinal++, section, section.compile(environment));
+      var type = entry.matcher.getType();
+
+      if (type == null) {
+        anyMaterialLevel.add(entry);
+        continue;
+      }
+
+      var material = type.get();
+
+      // Materials which are not supported by the running version can never be matched
+      if (material == null)
+        continue;
+
+      nameLevelByMaterial.computeIfAbsent(material, key -> new NameLevel()).add(entry);
+    }
+  }
+
+  /**
+   * All sections which have been indexed, in their initial order
+   */
+  public List<ItemStackSection> getSections() {
+    return sections;
+  }
+
+  /**
+   * Collects all sections which describe the provided item
+   * @param item Item in question
+   * @return Matching sections, in the order they have been indexed in
+   */
+  public List<ItemStackSection> classify(@Nullable ItemStack item) {
+    var matches = new ArrayList<Entry>();
+    forEachMatch(item, matches);
+
+    if (matches.isEmpty())
+      return List.of();
+
+    matches.sort(Comparator.comparingInt(entry -> entry.ordinal));
+
+    var result = new ArrayList<ItemStackSection>(matches.size());
+
+    for (var match : matches)
+      result.add(match.section);
+
+    return result;
+  }
+
+  /**
+   * Finds the first section (in the order they have been indexed in) which describes the provided item
+   * @param item Item in question
+   * @return Matching section, null if none of them matched
+   */
+  public @Nullable ItemStackSection findFirst(@Nullable ItemStack item) {
+    var matches = new ArrayList<Entry>();
+    forEachMatch(item, matches);
+
+    Entry first = null;
+
+    for (var match : matches) {
+      if (first == null || match.ordinal < first.ordinal)
+        first = match;
+    }
+
+    return first == null ? null : first.section;
+  }
+
+  private void forEachMatch(@Nullable ItemStack item, List<Entry> output) {
+    if (item == null)
+      return;
+
+    var meta = item.getItemMeta();
+
+    // Every matcher requires the meta to be readable
+    if (meta == null)
+      return;
+
+    var materialLevel = nameLevelByMaterial.get(item.getType());
+
+    if (materialLevel != null)
+      materialLevel.collectMatches(item, meta, output);
+
+    anyMaterialLevel.collectMatches(item, meta, output);
+  }
+
+  private static class Entry {
+
+    private final int ordinal;
+    private final ItemStackSection section;
+    private final ItemStackMatcher matcher;
+
+    private Entry(int ordinal, ItemStackSection section, ItemStackMatcher matcher) {
+      this.ordinal = ordinal;
+      this.section = section;
+      this.matcher = matcher;
+    }
+  }
+
+  private static class NameLevel {
+
+    private final Map<String, EnchantmentLevel> enchantmentLevelByName = new HashMap<>();
+    private final EnchantmentLevel anyNameLevel = new EnchantmentLevel();
+
+    private void add(Entry entry) {
+      var name = entry.matcher.getName();
+
+      if (name == null || entry.matcher.isDisallowName()) {
+        anyNameLevel.add(entry);
+        return;
+      }
+
+      enchantmentLevelByName.computeIfAbsent(name, key -> new EnchantmentLevel()).add(entry);
+    }
+
+    private void collectMatches(ItemStack item, ItemMeta meta, List<Entry> output) {
+      if (!enchantmentLevelByName.isEmpty()) {
+        var nameLevel = enchantmentLevelByName.get(meta.getDisplayName());
+
+        if (nameLevel != null)
+          nameLevel.collectMatches(item, meta, output);
+      }
+
+      anyNameLevel.collectMatches(item, meta, output);
+    }
+  }
+
+  private static class EnchantmentLevel {
+
+    private final Map<Set<Enchantment>, List<Entry>> entriesByEnchantments = new HashMap<>();
+    private final List<Entry> anyEnchantmentsEntries = new ArrayList<>();
+
+    private void add(Entry entry) {
+      var enchantments = entry.matcher.getExactEnchantments();
+
+      if (enchantments == null) {
+        anyEnchantmentsEntries.add(entry);
+        return;
+      }
+
+      entriesByEnchantments.computeIfAbsent(enchantments, key -> new ArrayList<>()).add(entry);
+    }
+
+    private void collectMatches(ItemStack item, ItemMeta meta, List<Entry> output) {
+      if (!entriesByEnchantments.isEmpty()) {
+        var entries = entriesByEnchantments.get(meta.getEnchants().keySet());
+
+        if (entries != null)
+          collectMatches(entries, item, meta, output);
+      }
+
+      collectMatches(anyEnchantmentsEntries, item, meta, output);
+    }
+
+    private static void collectMatches(List<Entry> entries, ItemStack item, ItemMeta meta, List<Entry> output) {
+      for (var entry : entries) {
+        if (entry.matcher.describe(item, meta, 0) == 0)
+          output.add(entry);
+      }
+    }
+  }
+}
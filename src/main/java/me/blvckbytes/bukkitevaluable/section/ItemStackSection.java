@@ -32,10 +32,12 @@ import me.blvckbytes.bukkitevaluable.BukkitEvaluable;
 import me.blvckbytes.bukkitevaluable.EPatchFlag;
 import me.blvckbytes.bukkitevaluable.IItemBuildable;
 import me.blvckbytes.bukkitevaluable.ItemBuilder;
+import me.blvckbytes.bukkitevaluable.textures.SkinTextures;
 import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
 import org.bukkit.Color;
 import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.*;
@@ -156,6 +158,52 @@ public class ItemStackSection extends AConfigSection {
     return patchFlags;
   }
 
+  /**
+   * Compiles this section into an immutable matcher, by resolving all expected
+   * values within the provided environment once
+   * @param environment Environment to evaluate this description in
+   */
+  public ItemStackMatcher compile(IEvaluationEnvironment environment) {
+    Enchantment[] compiledEnchantments = null;
+    int[] compiledEnchantmentLevels = null;
+
+    if (enchantments != null) {
+      compiledEnchantments = new Enchantment[enchantments.length];
+      compiledEnchantmentLevels = new int[enchantments.length];
+
+      for (var i = 0; i < enchantments.length; ++i) {
+        var enchantmentSection = enchantments[i];
+        var levelSection = enchantmentSection.getLevel();
+
+        compiledEnchantments[i] = enchantmentSection.getEnchantment().asEnchantment(environment);
+        compiledEnchantmentLevels[i] = levelSection == null ? -1 : levelSection.<Integer>asScalar(ScalarType.INT, environment);
+      }
+    }
+
+    return new ItemStackMatcher(
+      this, environment,
+      type == null ? null : type.asXMaterial(environment),
+      amount == null ? null : amount.<Long>asScalar(ScalarType.LONG, environment).intValue(),
+      disallowName,
+      name == null ? null : name.asScalar(ScalarType.STRING, environment),
+      disallowLore,
+      lore == null ? null : lore.asList(ScalarType.STRING, environment),
+      disallowFlags,
+      flags == null ? null : flags.asEnumerationConstantSet(ItemFlag.class, environment),
+      flagsMatchingMode,
+      color != null,
+      color == null ? null : color.asBukkitColor(environment),
+      disallowEnchantments,
+      compiledEnchantments,
+      compiledEnchantmentLevels,
+      enchantmentsMatchingMode,
+      textures == null ? null : textures.asScalar(ScalarType.STRING, environment),
+      baseEffect != null,
+      customEffects != null || disallowCustomEffects,
+      bannerPatterns != null || disallowBannerPatterns
+    );
+  }
+
   private boolean addMismatchAndPossiblyBreak(
     ComparisonMismatch mismatch,
     Set<ComparisonMismatch> mismatches,
@@ -302,7 +350,7 @@ public class ItemStackSection extends AConfigSection {
     return true;
   }
 
-  private boolean areBannerPatternsSatisfied(ItemMeta meta, IEvaluationEnvironment environment) {
+  boolean areBannerPatternsSatisfied(ItemMeta meta, IEvaluationEnvironment environment) {
     if (disallowBannerPatterns && meta instanceof BannerMeta bannerMeta && !bannerMeta.getPatterns().isEmpty())
       return false;
 
@@ -335,7 +383,7 @@ public class ItemStackSection extends AConfigSection {
     return true;
   }
 
-  private boolean areCustomEffectsSatisfied(ItemMeta meta, IEvaluationEnvironment environment) {
+  boolean areCustomEffectsSatisfied(ItemMeta meta, IEvaluationEnvironment environment) {
     if (disallowCustomEffects && meta instanceof PotionMeta potionMeta && potionMeta.hasCustomEffects())
       return false;
 
@@ -374,7 +422,7 @@ public class ItemStackSection extends AConfigSection {
 
     Color bukkitColor = color.asBukkitColor(environment);
 
-    if (color == null)
+    if (bukkitColor == null)
       return true;
 
     // FIXME: In order to support future added meta types with colors, this should be accessed using reflect, as all methods have the same signature
@@ -412,7 +460,7 @@ public class ItemStackSection extends AConfigSection {
         for (ItemStackEnchantmentSection enchantmentSection : enchantments) {
           var result = enchantmentSection.isContainedByMeta(meta,environment);
 
-          if (enchantmentSection.isContainedByMeta(meta,environment) != CheckResult.MATCHING_SECTION)
+          if (result != CheckResult.MATCHING_SECTION)
             return false;
 
           if (result != CheckResult.INVALID_SECTION)
@@ -429,7 +477,7 @@ public class ItemStackSection extends AConfigSection {
     return true;
   }
 
-  private boolean isBaseEffectSatisfied(ItemMeta meta, IEvaluationEnvironment environment) {
+  boolean isBaseEffectSatisfied(ItemMeta meta, IEvaluationEnvironment environment) {
     if (baseEffect == null)
       return true;
 
@@ -447,10 +495,14 @@ public class ItemStackSection extends AConfigSection {
     if (ItemBuilder.texturesHandler == null)
       return false;
 
-    String itemTextures = ItemBuilder.texturesHandler.getBase64Textures(meta);
     String envTextures = textures.asScalar(ScalarType.STRING, environment);
+    String envTexturesHash = SkinTextures.hashOfBase64Textures(envTextures);
+
+    // Textures which could not be parsed can still be equal to the item's as a whole
+    if (envTexturesHash == null)
+      return envTextures.equals(ItemBuilder.texturesHandler.getBase64Textures(meta));
 
-    return envTextures.equals(itemTextures);
+    return envTexturesHash.equals(ItemBuilder.texturesHandler.getTextureHash(meta));
   }
 
   /**
@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 public class GameProfileTexturesHandler implements TexturesHandler {
@@ -38,12 +39,11 @@ public class GameProfileTexturesHandler implements TexturesHandler {
 
   @Override
   public void setBase64Textures(ItemMeta meta, String base64Textures) {
-    GameProfile profile = new GameProfile(UUID.randomUUID(), "");
-    profile.getProperties().put("textures", new Property("textures", base64Textures));
-
     if (!(meta instanceof SkullMeta))
       return;
 
+    GameProfile profile = makeProfile(base64Textures);
+
     // if available, we use setProfile(GameProfile) so that it sets both the profile field and the
     // serialized profile field for us. If the serialized profile field isn't set
     // ItemStack#isSimilar() and ItemStack#equals() throw an error.
@@ -68,6 +68,15 @@ public class GameProfileTexturesHandler implements TexturesHandler {
     }
   }
 
+  private GameProfile makeProfile(String base64Textures) {
+    // A stable id per texture allows the client to reuse the skin it already downloaded
+    UUID profileId = UUID.nameUUIDFromBytes(base64Textures.getBytes(StandardCharsets.UTF_8));
+
+    GameProfile profile = new GameProfile(profileId, "");
+    profile.getProperties().put("textures", new Property("textures", base64Textures));
+    return profile;
+  }
+
   @Override
   public @Nullable String getBase64Textures(ItemMeta meta) {
     if (profileField == null || !(meta instanceof SkullMeta skullMeta))
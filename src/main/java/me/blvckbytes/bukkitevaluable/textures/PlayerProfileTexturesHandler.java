@@ -1,8 +1,6 @@
 package me.blvckbytes.bukkitevaluable.textures;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
+import me.blvckbytes.bukkitevaluable.BoundedCache;
 import org.bukkit.Bukkit;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
@@ -13,25 +11,39 @@ import org.jetbrains.annotations.Nullable;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 import java.util.UUID;
 
 public class PlayerProfileTexturesHandler implements TexturesHandler {
 
-  private static final Gson gson = new GsonBuilder().create();
+  public static final int DEFAULT_PROFILE_CACHE_SIZE = 1024;
+
+  // Profiles are never mutated after having been resolved, so that they may be shared between heads
+  private final BoundedCache<String, PlayerProfile> profileByTextures;
+
+  public PlayerProfileTexturesHandler(int profileCacheSize) {
+    this.profileByTextures = new BoundedCache<>(profileCacheSize);
+  }
+
+  public PlayerProfileTexturesHandler() {
+    this(DEFAULT_PROFILE_CACHE_SIZE);
+  }
+
+  public BoundedCache<String, PlayerProfile> getProfileCache() {
+    return profileByTextures;
+  }
 
   @Override
   public void setBase64Textures(ItemMeta meta, String base64Textures) {
     if (!(meta instanceof SkullMeta skullMeta))
       return;
 
-    String url = extractUrl(base64Textures);
+    PlayerProfile profile = profileByTextures.getOrResolve(base64Textures, this::resolveProfile);
 
-    if (url == null)
+    if (profile == null)
       return;
 
     try {
-      skullMeta.setOwnerProfile(getProfile(url));
+      skullMeta.setOwnerProfile(profile);
     } catch (Exception e) {
       e.printStackTrace();
     }
@@ -52,27 +64,46 @@ public class PlayerProfileTexturesHandler implements TexturesHandler {
     if (skinUrl == null)
       return null;
 
-    return Base64.getEncoder().encodeToString(
-      ("{\"textures\":{\"SKIN\":{\"url\":\"" + skinUrl + "\"}}}").getBytes(StandardCharsets.UTF_8)
-    );
+    return SkinTextures.encodeSkinUrl(skinUrl.toString());
   }
 
-  private @Nullable String extractUrl(String base64Textures) {
-    try {
-      String textures = new String(Base64.getDecoder().decode(base64Textures));
+  @Override
+  public @Nullable String getTextureHash(ItemMeta meta) {
+    if (!(meta instanceof SkullMeta skullMeta))
+      return null;
+
+    PlayerProfile profile = skullMeta.getOwnerProfile();
 
-      return gson.fromJson(textures, JsonObject.class)
-        .getAsJsonObject("textures")
-        .getAsJsonObject("SKIN")
-        .get("url")
-        .getAsString();
+    if (profile == null)
+      return null;
+
+    URL skinUrl = profile.getTextures().getSkin();
+
+    if (skinUrl == null)
+      return null;
+
+    // The URL is at hand already, so there's no need to take the detour over encoded textures
+    return SkinTextures.hashOfSkinUrl(skinUrl.getPath());
+  }
+
+  private @Nullable PlayerProfile resolveProfile(String base64Textures) {
+    String url = SkinTextures.extractSkinUrl(base64Textures);
+
+    if (url == null)
+      return null;
+
+    try {
+      return getProfile(base64Textures, url);
     } catch (Exception e) {
+      e.printStackTrace();
       return null;
     }
   }
 
-  private PlayerProfile getProfile(String url) throws MalformedURLException {
-    PlayerProfile profile = Bukkit.createPlayerProfile(UUID.randomUUID());
+  private PlayerProfile getProfile(String base64Textures, String url) throws MalformedURLException {
+    // A stable id per texture allows the client to reuse the skin it already downloaded
+    UUID profileId = UUID.nameUUIDFromBytes(base64Textures.getBytes(StandardCharsets.UTF_8));
+    PlayerProfile profile = Bukkit.createPlayerProfile(profileId);
     PlayerTextures textures = profile.getTextures();
     textures.setSkin(new URL(url));
     profile.setTextures(textures);
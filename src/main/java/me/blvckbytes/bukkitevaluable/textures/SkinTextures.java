@@ -0,0 +1,104 @@
+package me.blvckbytes.bukkitevaluable.textures;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import me.blvckbytes.bukkitevaluable.BoundedCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Conversions between base64 encoded textures, skin URLs and texture hashes. The hash is the last
+ * path segment of a skin URL and identifies a skin independently of how its textures value has been
+ * serialized (key order, whitespace, additional properties, http vs. https), which makes it the
+ * cheapest and most robust key to compare textures by.
+ */
+public final class SkinTextures {
+
+  private static final String[] SKIN_URL_PATH = { "textures", "SKIN", "url" };
+
+  // Malformed textures are cached as empty, as the cache doesn't hold on to nulls and would decode them on every call
+  private static final BoundedCache<String, Optional<String>> hashByBase64Textures = new BoundedCache<>(1024);
+
+  private SkinTextures() {}
+
+  /**
+   * Extracts the textures.SKIN.url value of base64 encoded textures, while decoding and
+   * reading them as a stream, so that neither the JSON text nor a tree of it is built up
+   * @return Skin URL, null if the textures were malformed
+   */
+  public static @Nullable String extractSkinUrl(String base64Textures) {
+    var base64Stream = new ByteArrayInputStream(base64Textures.getBytes(StandardCharsets.ISO_8859_1));
+
+    try (
+      var reader = new JsonReader(new InputStreamReader(Base64.getDecoder().wrap(base64Stream), StandardCharsets.UTF_8))
+    ) {
+      return readPath(reader, 0);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  private static @Nullable String readPath(JsonReader reader, int depth) throws IOException {
+    var token = reader.peek();
+
+    if (depth == SKIN_URL_PATH.length)
+      return (token == JsonToken.STRING || token == JsonToken.NUMBER) ? reader.nextString() : null;
+
+    if (token != JsonToken.BEGIN_OBJECT)
+      return null;
+
+    reader.beginObject();
+
+    while (reader.hasNext()) {
+      if (reader.nextName().equals(SKIN_URL_PATH[depth]))
+        return readPath(reader, depth + 1);
+
+      reader.skipValue();
+    }
+
+    return null;
+  }
+
+  /**
+   * Creates base64 encoded textures which only carry the provided skin URL
+   */
+  public static String encodeSkinUrl(String skinUrl) {
+    String textures = "{\"textures\":{\"SKIN\":{\"url\":\"" + skinUrl + "\"}}}";
+    return Base64.getEncoder().encodeToString(textures.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Normalizes a skin URL to the (lower-case) texture hash it ends in
+   * @return Hash, null if the URL had no path segment
+   */
+  public static @Nullable String hashOfSkinUrl(String skinUrl) {
+    int end = skinUrl.length();
+
+    while (end > 0 && skinUrl.charAt(end - 1) == '/')
+      --end;
+
+    int begin = skinUrl.lastIndexOf('/', end - 1) + 1;
+
+    if (begin >= end)
+      return null;
+
+    return skinUrl.substring(begin, end).toLowerCase();
+  }
+
+  /**
+   * Resolves the texture hash of base64 encoded textures; results are memoized
+   * @return Hash, null if the textures were malformed
+   */
+  public static @Nullable String hashOfBase64Textures(String base64Textures) {
+    return hashByBase64Textures.getOrResolve(base64Textures, key -> {
+      String skinUrl = extractSkinUrl(key);
+      return Optional.ofNullable(skinUrl == null ? null : hashOfSkinUrl(skinUrl));
+    }).orElse(null);
+  }
+}
@@ -9,4 +9,17 @@ public interface TexturesHandler {
 
   @Nullable String getBase64Textures(ItemMeta meta);
 
+  /**
+   * Resolves the texture hash of a head, see {@link SkinTextures#hashOfSkinUrl(String)}
+   * @return Hash, null if the meta carried no (valid) textures
+   */
+  default @Nullable String getTextureHash(ItemMeta meta) {
+    String base64Textures = getBase64Textures(meta);
+
+    if (base64Textures == null)
+      return null;
+
+    return SkinTextures.hashOfBase64Textures(base64Textures);
+  }
+
 }
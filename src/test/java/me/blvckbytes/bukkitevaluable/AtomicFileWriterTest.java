@@ -0,0 +1,99 @@
+package me.blvckbytes.bukkitevaluable;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicFileWriterTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void writesNewAndChangedContents() throws Exception {
+    var file = directory.resolve("nested/config.yml").toFile();
+
+    assertTrue(AtomicFileWriter.writeIfChanged(file, writer -> writer.write("a: 1")));
+    assertEquals("a: 1", Files.readString(file.toPath()));
+
+    assertTrue(AtomicFileWriter.writeIfChanged(file, writer -> writer.write("a: 2")));
+    assertEquals("a: 2", Files.readString(file.toPath()));
+
+    assertNoTemporaryFiles(file.toPath().getParent());
+  }
+
+  @Test
+  void writesRawContentsAsIs() throws Exception {
+    var file = directory.resolve("nested/config.yml").toFile();
+    var contents = "ä: 1".getBytes(StandardCharsets.UTF_8);
+
+    assertTrue(AtomicFileWriter.writeIfChanged(file, contents));
+    assertArrayEquals(contents, Files.readAllBytes(file.toPath()));
+
+    assertFalse(AtomicFileWriter.writeIfChanged(file, contents.clone()));
+    assertNoTemporaryFiles(file.toPath().getParent());
+  }
+
+  @Test
+  void leavesUnchangedContentsUntouched() throws Exception {
+    var file = directory.resolve("config.yml").toFile();
+    Files.writeString(file.toPath(), "ä: 1", StandardCharsets.UTF_8);
+    assertTrue(file.setLastModified(1_000_000L));
+
+    assertFalse(AtomicFileWriter.writeIfChanged(file, writer -> writer.write("ä: 1")));
+    assertEquals(1_000_000L, file.lastModified());
+  }
+
+  @Test
+  void keepsTheTargetIfSerializingFails() throws Exception {
+    var file = directory.resolve("config.yml").toFile();
+    Files.writeString(file.toPath(), "a: 1");
+
+    var failure = new IllegalStateException("serializer failed");
+
+    var thrown = assertThrows(IllegalStateException.class, () -> AtomicFileWriter.writeIfChanged(file, writer -> {
+      // Partial contents must never reach the target
+      writer.write("a: ");
+      throw failure;
+    }));
+
+    assertSame(failure, thrown);
+    assertEquals("a: 1", Files.readString(file.toPath()));
+    assertNoTemporaryFiles(directory);
+  }
+
+  @Test
+  void rejectsDirectoriesAtTheTarget() throws Exception {
+    var target = directory.resolve("config.yml");
+    Files.createDirectory(target);
+
+    assertThrows(IllegalStateException.class, () -> AtomicFileWriter.writeIfChanged(target.toFile(), writer -> writer.write("a: 1")));
+    assertTrue(Files.isDirectory(target));
+  }
+
+  @Test
+  void failsIfTheParentCannotBeCreated() throws Exception {
+    var blockingFile = directory.resolve("blocking");
+    Files.writeString(blockingFile, "not a directory");
+
+    var file = blockingFile.resolve("config.yml").toFile();
+
+    assertThrows(IOException.class, () -> AtomicFileWriter.writeIfChanged(file, writer -> writer.write("a: 1")));
+    assertEquals("not a directory", Files.readString(blockingFile));
+    assertNoTemporaryFiles(directory);
+  }
+
+  private static void assertNoTemporaryFiles(Path directory) throws IOException {
+    try (var files = Files.list(directory)) {
+      List<Path> temporaryFiles = files.filter(path -> path.getFileName().toString().endsWith(".tmp")).toList();
+      assertEquals(List.of(), temporaryFiles);
+    }
+  }
+}
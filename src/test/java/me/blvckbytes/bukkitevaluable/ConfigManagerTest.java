@@ -0,0 +1,172 @@
+package me.blvckbytes.bukkitevaluable;
+
+import me.blvckbytes.bbconfigmapper.ConfigMapper;
+import me.blvckbytes.bbconfigmapper.ScalarType;
+import me.blvckbytes.bbconfigmapper.sections.AConfigSection;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigManagerTest {
+
+  // Bundled configs reside within the test resources, each of which carries its own name
+  private static final String FOLDER_NAME = "config-manager-test";
+
+  @TempDir
+  Path dataFolder;
+
+  private final Set<Thread> loaderThreads = ConcurrentHashMap.newKeySet();
+
+  @Test
+  void keepsTheOrderOfTheProvidedNames() throws Exception {
+    var fileNames = List.of("third.yml", "first.yml", "second.yml");
+
+    // Loads have to wait on one another, as to complete in an order unrelated to the one they were submitted in
+    var barrier = new CyclicBarrier(fileNames.size());
+    var configManager = makeConfigManager(builder -> awaitBarrier(barrier));
+
+    var result = configManager.loadConfigs(fileNames, fileNames.size());
+
+    assertEquals(fileNames, List.copyOf(result.keySet()));
+
+    for (var fileName : fileNames) {
+      assertEquals(fileName.substring(0, fileName.indexOf('.')), readName(result.get(fileName)));
+      assertSame(result.get(fileName), configManager.getMapper(fileName));
+    }
+
+    assertEquals(fileNames.size(), loaderThreads.size());
+  }
+
+  @Test
+  void loadsDuplicateNamesOnlyOnce() throws Exception {
+    var configManager = makeConfigManager(null);
+    var result = configManager.loadConfigs(List.of("first.yml", "second.yml", "first.yml"), 2);
+
+    assertEquals(List.of("first.yml", "second.yml"), List.copyOf(result.keySet()));
+  }
+
+  @Test
+  void propagatesTheFailureOfASingleFile() throws Exception {
+    var configManager = makeConfigManager(null);
+
+    var exception = assertThrows(IllegalStateException.class, () -> configManager.loadConfigs(List.of("first.yml", "missing.yml", "second.yml"), 3));
+
+    assertTrue(exception.getMessage().contains("missing.yml"), exception.getMessage());
+    assertEquals(0, exception.getSuppressed().length);
+
+    // Siblings are still attempted to be loaded
+    assertNotNull(configManager.getMapper("first.yml"));
+    assertNotNull(configManager.getMapper("second.yml"));
+    assertThrows(FileNotFoundException.class, () -> configManager.getMapper("missing.yml"));
+  }
+
+  @Test
+  void suppressesAllFailuresAfterTheFirst() throws Exception {
+    var configManager = makeConfigManager(null);
+
+    var exception = assertThrows(IllegalStateException.class, () -> configManager.loadConfigs(List.of("missing.yml", "first.yml", "absent.yml"), 3));
+
+    assertTrue(exception.getMessage().contains("missing.yml"), exception.getMessage());
+    assertEquals(1, exception.getSuppressed().length);
+    assertTrue(exception.getSuppressed()[0].getMessage().contains("absent.yml"), exception.getSuppressed()[0].getMessage());
+  }
+
+  @Test
+  void shutsDownThePoolAfterLoading() throws Exception {
+    var configManager = makeConfigManager(null);
+
+    configManager.loadConfigs(List.of("first.yml", "second.yml", "third.yml"), 3);
+    assertLoaderThreadsTerminated();
+
+    loaderThreads.clear();
+
+    assertThrows(IllegalStateException.class, () -> configManager.loadConfigs(List.of("first.yml", "missing.yml"), 2));
+    assertLoaderThreadsTerminated();
+  }
+
+  @Test
+  void rejectsNonPositiveParallelism() throws Exception {
+    var configManager = makeConfigManager(null);
+
+    assertThrows(IllegalStateException.class, () -> configManager.loadConfigs(List.of("first.yml"), 0));
+    assertThrows(IllegalStateException.class, () -> configManager.loadConfigs(List.of("first.yml"), -1));
+  }
+
+  private void assertLoaderThreadsTerminated() throws InterruptedException {
+    assertFalse(loaderThreads.isEmpty());
+
+    for (var thread : loaderThreads) {
+      thread.join(TimeUnit.SECONDS.toMillis(5));
+      assertFalse(thread.isAlive(), thread.getName());
+    }
+  }
+
+  private static void awaitBarrier(CyclicBarrier barrier) {
+    try {
+      barrier.await(5, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      throw new IllegalStateException("Loads did not run concurrently", e);
+    }
+  }
+
+  private static String readName(ConfigMapper mapper) throws Exception {
+    return mapper.mapSection(null, NameSection.class).name.asScalar(ScalarType.STRING, new EvaluationEnvironmentBuilder().build());
+  }
+
+  /**
+   * The base environment consumer is invoked on the loading thread, which allows to record all loader threads
+   */
+  private ConfigManager makeConfigManager(@Nullable Consumer<EvaluationEnvironmentBuilder> baseEnvironmentConsumer) throws Exception {
+    return new ConfigManager(makePlugin(), FOLDER_NAME, builder -> {
+      if (Thread.currentThread().getName().startsWith("ConfigLoader-"))
+        loaderThreads.add(Thread.currentThread());
+
+      if (baseEnvironmentConsumer != null)
+        baseEnvironmentConsumer.accept(builder);
+    });
+  }
+
+  private Plugin makePlugin() {
+    var logger = Logger.getLogger("ConfigManagerTest");
+
+    // Failures are expected and asserted upon, so there's no need to print them
+    logger.setLevel(Level.OFF);
+
+    return (Plugin) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Plugin.class }, (proxy, method, args) -> {
+      return switch (method.getName()) {
+        case "getLogger" -> logger;
+        case "getDataFolder" -> dataFolder.toFile();
+        case "getResource" -> getClass().getClassLoader().getResourceAsStream((String) args[0]);
+        case "hashCode" -> System.identityHashCode(proxy);
+        case "equals" -> proxy == args[0];
+        case "toString" -> "ConfigManagerTest";
+        default -> throw new UnsupportedOperationException(method.getName());
+      };
+    });
+  }
+
+  public static class NameSection extends AConfigSection {
+
+    public BukkitEvaluable name;
+
+    public NameSection(EvaluationEnvironmentBuilder baseEnvironment) {
+      super(baseEnvironment);
+    }
+  }
+}
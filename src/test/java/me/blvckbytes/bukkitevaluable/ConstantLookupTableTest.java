@@ -0,0 +1,100 @@
+package me.blvckbytes.bukkitevaluable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstantLookupTableTest {
+
+  private enum EmptyEnum {}
+
+  private enum SingleEnum { ONLY }
+
+  // Eight constants, so that the table is sized exactly at a power of two of entries
+  private enum PowerOfTwoEnum { A, B, C, D, E, F, G, H }
+
+  /**
+   * Static self-typed constants, where the names AAN and AC0 share the very same (case-insensitive)
+   * hash and thus always collide, no matter the size of the table
+   */
+  private static final class Shade {
+
+    static final Shade AAN = new Shade();
+    static final Shade AC0 = new Shade();
+    static final Shade DEEP_BLUE = new Shade();
+    static final Shade MISSING = null;
+
+    static final String NOT_SELF_TYPED = "ignored";
+  }
+
+  @Test
+  void resolvesEnumConstantsIgnoringCaseAndSurroundingWhitespace() {
+    var table = ConstantLookupTable.of(Thread.State.class);
+
+    for (var state : Thread.State.values()) {
+      assertSame(state, table.lookup(state.name()));
+      assertSame(state, table.lookup(state.name().toLowerCase(Locale.ROOT)));
+      assertSame(state, table.lookup("  " + state.name() + "\t"));
+    }
+
+    assertNull(table.lookup("RUNNABLE_"));
+    assertNull(table.lookup("RUN NABLE"));
+  }
+
+  @Test
+  void resolvesStaticSelfTypedConstants() {
+    var table = ConstantLookupTable.of(Shade.class);
+
+    assertSame(Shade.DEEP_BLUE, table.lookup("deep_blue"));
+    assertNull(table.lookup("MISSING"), "null-constants are skipped");
+    assertNull(table.lookup("NOT_SELF_TYPED"), "constants of other types are skipped");
+  }
+
+  @Test
+  void distinguishesNamesOfCollidingHashes() {
+    assertEquals("aan".hashCode(), "ac0".hashCode(), "the fixture has to produce a true hash collision");
+
+    var table = ConstantLookupTable.of(Shade.class);
+
+    assertSame(Shade.AAN, table.lookup("AAN"));
+    assertSame(Shade.AC0, table.lookup("AC0"));
+    assertSame(Shade.AC0, table.lookup(" ac0 "));
+    assertNull(table.lookup("AB_"));
+  }
+
+  @Test
+  void resolvesEveryConstantOfLargeEnums() {
+    // Well over a hundred constants, which forces many probe sequences to wrap and overlap
+    var table = ConstantLookupTable.of(Character.UnicodeScript.class);
+
+    for (var script : Character.UnicodeScript.values())
+      assertSame(script, table.lookup(script.name().toLowerCase(Locale.ROOT)));
+
+    assertNull(table.lookup("NOT_A_SCRIPT"));
+  }
+
+  @Test
+  void terminatesOnTablesOfFewEntries() {
+    assertNull(ConstantLookupTable.of(EmptyEnum.class).lookup("ANYTHING"));
+    assertNull(ConstantLookupTable.of(EmptyEnum.class).lookup(""));
+
+    var singleTable = ConstantLookupTable.of(SingleEnum.class);
+    assertSame(SingleEnum.ONLY, singleTable.lookup("only"));
+    assertNull(singleTable.lookup("other"));
+    assertNull(singleTable.lookup("   "));
+
+    var powerOfTwoTable = ConstantLookupTable.of(PowerOfTwoEnum.class);
+
+    for (var constant : PowerOfTwoEnum.values())
+      assertSame(constant, powerOfTwoTable.lookup(constant.name()));
+
+    assertNull(powerOfTwoTable.lookup("I"));
+  }
+
+  @Test
+  void sharesOneTablePerClass() {
+    assertSame(ConstantLookupTable.of(SingleEnum.class), ConstantLookupTable.of(SingleEnum.class));
+  }
+}
@@ -0,0 +1,76 @@
+package me.blvckbytes.bukkitevaluable;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileFingerprintTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void reportsUntouchedFilesAsUnchanged() throws Exception {
+    var file = write("config.yml", "a: 1", 1_000_000L);
+    assertTrue(FileFingerprint.of(file).isUnchanged(file));
+  }
+
+  @Test
+  void detectsChangesWhichPreserveModificationTimeAndSize() throws Exception {
+    var file = write("config.yml", "a: 1", 1_000_000L);
+    var fingerprint = FileFingerprint.of(file);
+
+    // Same size and modification time, yet other contents, as written by tools which preserve the time
+    write("config.yml", "b: 2", 1_000_000L);
+    assertFalse(fingerprint.isUnchanged(file));
+  }
+
+  @Test
+  void comparesContentsIfTheModificationTimeDiffers() throws Exception {
+    var file = write("config.yml", "a: 1", 1_000_000L);
+    var fingerprint = FileFingerprint.of(file);
+
+    // Touched, but with equal contents
+    write("config.yml", "a: 1", 2_000_000L);
+    assertTrue(fingerprint.isUnchanged(file));
+
+    // Contents of equal length which differ
+    write("config.yml", "a: 2", 3_000_000L);
+    assertFalse(fingerprint.isUnchanged(file));
+  }
+
+  @Test
+  void reportsDifferentSizesAsChanged() throws Exception {
+    var file = write("config.yml", "a: 1", 1_000_000L);
+    var fingerprint = FileFingerprint.of(file);
+
+    // Even at an equal modification time
+    write("config.yml", "a: 10", 1_000_000L);
+    assertFalse(fingerprint.isUnchanged(file));
+  }
+
+  @Test
+  void reportsMissingFilesAndDirectoriesAsChanged() throws Exception {
+    var file = write("config.yml", "a: 1", 1_000_000L);
+    var fingerprint = FileFingerprint.of(file);
+
+    Files.delete(file.toPath());
+    assertFalse(fingerprint.isUnchanged(file));
+
+    Files.createDirectory(file.toPath());
+    assertFalse(fingerprint.isUnchanged(file));
+  }
+
+  private File write(String name, String contents, long lastModified) throws Exception {
+    var file = directory.resolve(name).toFile();
+    Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    assertTrue(file.setLastModified(lastModified));
+    return file;
+  }
+}
@@ -0,0 +1,277 @@
+package me.blvckbytes.bukkitevaluable;
+
+import me.blvckbytes.bbconfigmapper.ScalarType;
+import me.blvckbytes.bukkitevaluable.applicator.LegacyEvaluableApplicator;
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.IValueInterpreter;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemBuildCacheTest {
+
+  private final AtomicInteger buildCount = new AtomicInteger();
+
+  // Builds a stack whose amount is taken from the variable "amount", as read through the passed environment
+  private final Function<IEvaluationEnvironment, ItemStack> amountBuilder = environment -> {
+    buildCount.incrementAndGet();
+    return new ItemStack(Material.STONE, readInt(environment, "amount"));
+  };
+
+  @Test
+  void hitsAcrossEnvironmentsWithEqualValues() {
+    var cache = new ItemBuildCache(16);
+
+    assertEquals(2, cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder).getAmount());
+    assertEquals(2, cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder).getAmount());
+
+    assertEquals(1, buildCount.get());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  void missesOnDifferingValues() {
+    var cache = new ItemBuildCache(16);
+
+    assertEquals(2, cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder).getAmount());
+    assertEquals(3, cache.getOrBuild(new TestEnvironment().withStatic("amount", 3), amountBuilder).getAmount());
+    assertEquals(2, cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder).getAmount());
+
+    assertEquals(2, buildCount.get());
+    assertEquals(2, cache.getSize());
+  }
+
+  @Test
+  void ignoresVariablesWhichHaveNotBeenRead() {
+    var cache = new ItemBuildCache(16);
+
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 2).withStatic("unused", "a"), amountBuilder);
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 2).withStatic("unused", "b"), amountBuilder);
+
+    assertEquals(1, buildCount.get());
+  }
+
+  @Test
+  void keysLiveVariablesByTheirValues() {
+    var cache = new ItemBuildCache(16);
+
+    cache.getOrBuild(new TestEnvironment().withLive("amount", () -> 4), amountBuilder);
+    var result = cache.getOrBuild(new TestEnvironment().withStatic("amount", 4), amountBuilder);
+
+    assertEquals(4, result.getAmount());
+    assertEquals(1, buildCount.get());
+  }
+
+  @Test
+  void invokesSuppliersOnlyOncePerBuild() {
+    var cache = new ItemBuildCache(16);
+    var invocationCount = new AtomicInteger();
+    var environment = new TestEnvironment().withLive("amount", invocationCount::incrementAndGet);
+
+    assertEquals(1, cache.getOrBuild(environment, amountBuilder).getAmount());
+    assertEquals(1, invocationCount.get());
+
+    // Reads 2 while making up the key, thus misses and builds with 3
+    assertEquals(3, cache.getOrBuild(environment, amountBuilder).getAmount());
+    assertEquals(3, invocationCount.get());
+
+    // Snapshots have to be stored under the values they have been built from, not under values read afterwards
+    assertEquals(1, cache.getOrBuild(new TestEnvironment().withStatic("amount", 1), amountBuilder).getAmount());
+    assertEquals(3, cache.getOrBuild(new TestEnvironment().withStatic("amount", 3), amountBuilder).getAmount());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(2, buildCount.get());
+  }
+
+  @Test
+  void keysExpressionsByTheVariablesTheyRead() throws Exception {
+    var cache = new ItemBuildCache(16);
+    var evaluator = new GPEEE(Logger.getLogger("ItemBuildCacheTest"));
+    var amount = new BukkitEvaluable(evaluator.parseString("stock * 2"), evaluator, new LegacyEvaluableApplicator());
+
+    Function<IEvaluationEnvironment, ItemStack> builder = environment -> {
+      buildCount.incrementAndGet();
+      return new ItemStack(Material.STONE, amount.<Long>asScalar(ScalarType.LONG, environment).intValue());
+    };
+
+    var first = new EvaluationEnvironmentBuilder().withStaticVariable("stock", 2).withStaticVariable("price", 10).build();
+    var unreadChanged = new EvaluationEnvironmentBuilder().withStaticVariable("stock", 2).withStaticVariable("price", 20).build();
+    var readChanged = new EvaluationEnvironmentBuilder().withStaticVariable("stock", 3).withStaticVariable("price", 10).build();
+    var readChangedLive = new EvaluationEnvironmentBuilder().withLiveVariable("stock", () -> 5).withStaticVariable("price", 10).build();
+
+    assertEquals(4, cache.getOrBuild(first, builder).getAmount());
+    assertEquals(4, cache.getOrBuild(unreadChanged, builder).getAmount());
+    assertEquals(1, buildCount.get());
+    assertEquals(1, cache.getHitCount());
+
+    assertEquals(6, cache.getOrBuild(readChanged, builder).getAmount());
+    assertEquals(10, cache.getOrBuild(readChangedLive, builder).getAmount());
+    assertEquals(3, buildCount.get());
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  void widensDependenciesOfConditionalReads() {
+    var cache = new ItemBuildCache(16);
+
+    Function<IEvaluationEnvironment, ItemStack> builder = environment -> {
+      buildCount.incrementAndGet();
+
+      var amount = readInt(environment, "amount");
+
+      if (amount == 1)
+        amount += readInt(environment, "bonus");
+
+      return new ItemStack(Material.STONE, amount);
+    };
+
+    assertEquals(5, cache.getOrBuild(new TestEnvironment().withStatic("amount", 5).withStatic("bonus", 1), builder).getAmount());
+    assertEquals(2, cache.getOrBuild(new TestEnvironment().withStatic("amount", 1).withStatic("bonus", 1), builder).getAmount());
+    assertEquals(3, cache.getOrBuild(new TestEnvironment().withStatic("amount", 1).withStatic("bonus", 2), builder).getAmount());
+    assertEquals(3, cache.getOrBuild(new TestEnvironment().withStatic("amount", 1).withStatic("bonus", 2), builder).getAmount());
+
+    assertEquals(3, buildCount.get());
+  }
+
+  @Test
+  void keysBulkAccessByAllVariables() {
+    var cache = new ItemBuildCache(16);
+
+    Function<IEvaluationEnvironment, ItemStack> builder = environment -> {
+      buildCount.incrementAndGet();
+      return new ItemStack(Material.STONE, environment.getStaticVariables().entrySet().size());
+    };
+
+    cache.getOrBuild(new TestEnvironment().withStatic("a", 1), builder);
+    cache.getOrBuild(new TestEnvironment().withStatic("a", 2), builder);
+    cache.getOrBuild(new TestEnvironment().withStatic("a", 2), builder);
+
+    assertEquals(2, buildCount.get());
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  void neverCachesBuildsWhichAccessFunctions() {
+    var cache = new ItemBuildCache(16);
+
+    Function<IEvaluationEnvironment, ItemStack> builder = environment -> {
+      buildCount.incrementAndGet();
+      environment.getFunctions().get("caller_name");
+      return new ItemStack(Material.STONE, readInt(environment, "amount"));
+    };
+
+    for (var i = 0; i < 3; ++i)
+      cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), builder);
+
+    assertEquals(3, buildCount.get());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  void returnsCopiesOfSnapshots() {
+    var cache = new ItemBuildCache(16);
+
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder).setAmount(10);
+    var result = cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder);
+
+    assertEquals(2, result.getAmount());
+    result.setAmount(20);
+
+    assertEquals(2, cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder).getAmount());
+    assertEquals(1, buildCount.get());
+  }
+
+  @Test
+  void evictsTheLeastRecentlyUsedSnapshot() {
+    var cache = new ItemBuildCache(2);
+
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 1), amountBuilder);
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder);
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 1), amountBuilder);
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 3), amountBuilder);
+
+    assertEquals(2, cache.getSize());
+    assertEquals(3, buildCount.get());
+
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 1), amountBuilder);
+    assertEquals(3, buildCount.get());
+
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder);
+    assertEquals(4, buildCount.get());
+  }
+
+  @Test
+  void forgetsSnapshotsAndDependenciesOnClear() {
+    var cache = new ItemBuildCache(16);
+
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder);
+    cache.clear();
+
+    assertEquals(0, cache.getSize());
+
+    cache.getOrBuild(new TestEnvironment().withStatic("amount", 2), amountBuilder);
+    assertEquals(2, buildCount.get());
+  }
+
+  @Test
+  void rejectsNonPositiveSizes() {
+    assertThrows(IllegalStateException.class, () -> new ItemBuildCache(0));
+    assertThrows(IllegalStateException.class, () -> new ItemBuildCache(-1));
+  }
+
+  private static int readInt(IEvaluationEnvironment environment, String name) {
+    var supplier = environment.getLiveVariables().get(name);
+    var value = supplier != null ? supplier.get() : environment.getStaticVariables().get(name);
+    return (Integer) value;
+  }
+
+  private static class TestEnvironment implements IEvaluationEnvironment {
+
+    private final Map<String, AExpressionFunction> functions = new HashMap<>();
+    private final Map<String, Supplier<?>> liveVariables = new HashMap<>();
+    private final Map<String, Object> staticVariables = new HashMap<>();
+
+    TestEnvironment withLive(String name, Supplier<?> supplier) {
+      liveVariables.put(name, supplier);
+      return this;
+    }
+
+    TestEnvironment withStatic(String name, Object value) {
+      staticVariables.put(name, value);
+      return this;
+    }
+
+    @Override
+    public Map<String, AExpressionFunction> getFunctions() {
+      return functions;
+    }
+
+    @Override
+    public Map<String, Supplier<?>> getLiveVariables() {
+      return liveVariables;
+    }
+
+    @Override
+    public Map<String, ?> getStaticVariables() {
+      return staticVariables;
+    }
+
+    @Override
+    public IValueInterpreter getValueInterpreter() {
+      return new BukkitValueInterpreter();
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package me.blvckbytes.bukkitevaluable;
+
+import me.blvckbytes.bukkitevaluable.applicator.LegacyEvaluableApplicator;
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.LeatherArmorMeta;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemBuilderTest {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getLogger("ItemBuilderTest"));
+  private final LegacyEvaluableApplicator applicator = new LegacyEvaluableApplicator();
+
+  // Contains duplicates, as well as values which differ only by some of the variables
+  private final List<IEvaluationEnvironment> environments = List.of(
+    makeEnvironment(100, 2, "RED", "DIAMOND_SWORD"),
+    makeEnvironment(100, 3, "RED", "DIAMOND_SWORD"),
+    makeEnvironment(99, 2, "BLUE", "IRON_SWORD"),
+    makeEnvironment(100, 2, "RED", "DIAMOND_SWORD"),
+    makeEnvironment(98, 5, "255 0 255", "STONE")
+  );
+
+  @BeforeAll
+  static void installServer() {
+    StubServer.install();
+  }
+
+  @Test
+  void agreesOnEnvironmentIndependentBuilders() throws Exception {
+    assertAgreement(decorate(makeBuilder(Material.DIAMOND_SWORD)));
+  }
+
+  @Test
+  void agreesOnVaryingAmounts() throws Exception {
+    assertAgreement(decorate(makeBuilder(Material.DIAMOND_SWORD)).setAmount(expression("stock")));
+  }
+
+  @Test
+  void agreesOnVaryingNamesAndLore() throws Exception {
+    var builder = makeBuilder(Material.DIAMOND_SWORD)
+      .setName(expression("\"Sword for \" & price"))
+      .extendLore(constant(List.of("First line")))
+      .extendLore(new BukkitEvaluable(List.of("Static line", evaluator.parseString("\"Stock: \" & stock")), evaluator, applicator))
+      .extendFlags(constant(List.of("HIDE_ATTRIBUTES")));
+
+    assertAgreement(builder);
+  }
+
+  @Test
+  void agreesOnOverridingExistingLore() throws Exception {
+    var baseItem = new ItemStack(Material.DIAMOND_SWORD);
+    var baseMeta = baseItem.getItemMeta();
+
+    assertNotNull(baseMeta);
+    baseMeta.setLore(List.of("Existing line"));
+    baseItem.setItemMeta(baseMeta);
+
+    assertAgreement(new ItemBuilder(baseItem, 1).extendLore(expression("\"Stock: \" & stock")));
+    assertAgreement(new ItemBuilder(baseItem, 1).overrideLore(expression("\"Stock: \" & stock")));
+  }
+
+  @Test
+  void agreesOnVaryingColors() throws Exception {
+    assertAgreement(makeBuilder(Material.LEATHER_CHESTPLATE).setColor(expression("tint")).setName(constant("Armor")));
+  }
+
+  @Test
+  void agreesOnVaryingTypes() throws Exception {
+    assertAgreement(decorate(makeBuilder(Material.BARRIER)).setType(expression("material")).setName(expression("\"Sword for \" & price")));
+  }
+
+  @Test
+  void agreesWhileCachingBuilds() throws Exception {
+    var builder = decorate(makeBuilder(Material.DIAMOND_SWORD))
+      .setAmount(expression("stock"))
+      .setName(expression("\"Sword for \" & price"))
+      .enableBuildCache(16);
+
+    assertAgreement(builder);
+  }
+
+  @Test
+  void buildsNothingForNoEnvironments() {
+    assertEquals(0, decorate(makeBuilder(Material.DIAMOND_SWORD)).buildAll(List.of()).length);
+  }
+
+  /**
+   * Asserts that building all environments at once yields the same items as building them one by one,
+   * and that none of the resulting items shares any state with another
+   */
+  private void assertAgreement(ItemBuilder builder) {
+    var expectedItems = new ArrayList<ItemStack>();
+
+    for (var environment : environments)
+      expectedItems.add(builder.build(environment));
+
+    var actualItems = builder.buildAll(environments);
+
+    assertEquals(expectedItems.size(), actualItems.length);
+
+    for (var i = 0; i < actualItems.length; ++i)
+      assertItemEquals(expectedItems.get(i), actualItems[i], "item " + i);
+
+    for (var i = 0; i < actualItems.length; ++i) {
+      var meta = actualItems[i].getItemMeta();
+
+      assertNotNull(meta);
+      meta.setDisplayName("Altered");
+      meta.setLore(List.of("Altered"));
+      actualItems[i].setItemMeta(meta);
+      actualItems[i].setAmount(64);
+
+      for (var j = i + 1; j < actualItems.length; ++j)
+        assertItemEquals(expectedItems.get(j), actualItems[j], "item " + j + " after altering item " + i);
+    }
+  }
+
+  /**
+   * Compares items by all those properties which the builder may apply, as the stub's metas only compare by identity
+   */
+  private static void assertItemEquals(ItemStack expected, ItemStack actual, String message) {
+    assertEquals(expected.getType(), actual.getType(), message);
+    assertEquals(expected.getAmount(), actual.getAmount(), message);
+
+    var expectedMeta = expected.getItemMeta();
+    var actualMeta = actual.getItemMeta();
+
+    assertNotNull(expectedMeta, message);
+    assertNotNull(actualMeta, message);
+
+    assertEquals(expectedMeta.getDisplayName(), actualMeta.getDisplayName(), message);
+    assertEquals(expectedMeta.getLore(), actualMeta.getLore(), message);
+    assertEquals(expectedMeta.getItemFlags(), actualMeta.getItemFlags(), message);
+    assertEquals(expectedMeta.getEnchants(), actualMeta.getEnchants(), message);
+    assertEquals(expectedMeta instanceof LeatherArmorMeta, actualMeta instanceof LeatherArmorMeta, message);
+
+    if (expectedMeta instanceof LeatherArmorMeta expectedArmorMeta)
+      assertEquals(expectedArmorMeta.getColor(), ((LeatherArmorMeta) actualMeta).getColor(), message);
+  }
+
+  private ItemBuilder decorate(ItemBuilder builder) {
+    return builder
+      .setName(constant("Sword"))
+      .extendLore(constant(List.of("First line", "Second line")))
+      .extendFlags(constant(List.of("HIDE_ATTRIBUTES")));
+  }
+
+  private static ItemBuilder makeBuilder(Material type) {
+    return new ItemBuilder(new ItemStack(type), 1);
+  }
+
+  private BukkitEvaluable constant(Object value) {
+    return new BukkitEvaluable(value, evaluator, applicator);
+  }
+
+  private BukkitEvaluable expression(String expression) throws Exception {
+    return new BukkitEvaluable(evaluator.parseString(expression), evaluator, applicator);
+  }
+
+  private static IEvaluationEnvironment makeEnvironment(int price, int stock, String tint, String material) {
+    return new EvaluationEnvironmentBuilder()
+      .withStaticVariable("price", price)
+      .withStaticVariable("stock", stock)
+      .withStaticVariable("tint", tint)
+      .withStaticVariable("material", material)
+      .build();
+  }
+}
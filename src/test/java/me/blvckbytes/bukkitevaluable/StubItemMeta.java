@@ -0,0 +1,129 @@
+package me.blvckbytes.bukkitevaluable;
+
+import org.bukkit.Color;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.LeatherArmorMeta;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * Minimal in-memory item-meta, implementing just those members which are accessed by the library's hot paths;
+ * leather armor is handed out as a {@link LeatherArmorMeta}, in order to also be able to carry a color
+ */
+public class StubItemMeta implements InvocationHandler {
+
+  // Color of undyed leather armor, as reported by the server
+  public static final Color DEFAULT_LEATHER_COLOR = Color.fromRGB(0xA06540);
+
+  private final Class<? extends ItemMeta> type;
+  private String displayName;
+  private List<String> lore;
+  private Color color;
+  private final EnumSet<ItemFlag> itemFlags;
+  private final Map<Enchantment, Integer> enchants;
+
+  private StubItemMeta(Class<? extends ItemMeta> type) {
+    this.type = type;
+    this.color = DEFAULT_LEATHER_COLOR;
+    this.itemFlags = EnumSet.noneOf(ItemFlag.class);
+    this.enchants = new HashMap<>();
+  }
+
+  public static ItemMeta create(Material material) {
+    return create(new StubItemMeta(material.name().startsWith("LEATHER_") ? LeatherArmorMeta.class : ItemMeta.class));
+  }
+
+  private static ItemMeta create(StubItemMeta handler) {
+    return (ItemMeta) Proxy.newProxyInstance(ItemMeta.class.getClassLoader(), new Class[] { handler.type }, handler);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Object invoke(Object proxy, Method method, Object[] args) {
+    return switch (method.getName()) {
+      case "getDisplayName" -> displayName == null ? "" : displayName;
+      case "setDisplayName" -> {
+        displayName = (String) args[0];
+        yield null;
+      }
+      case "hasDisplayName" -> displayName != null && !displayName.isEmpty();
+      case "getLore" -> lore == null ? null : new ArrayList<>(lore);
+      case "setLore" -> {
+        lore = args[0] == null ? null : new ArrayList<>((List<String>) args[0]);
+        yield null;
+      }
+      case "hasLore" -> lore != null && !lore.isEmpty();
+      case "getItemFlags" -> itemFlags.clone();
+      case "hasItemFlag" -> itemFlags.contains((ItemFlag) args[0]);
+      case "addItemFlags" -> {
+        Collections.addAll(itemFlags, (ItemFlag[]) args[0]);
+        yield null;
+      }
+      case "removeItemFlags" -> {
+        for (var flag : (ItemFlag[]) args[0])
+          itemFlags.remove(flag);
+        yield null;
+      }
+      case "getColor" -> color;
+      case "setColor" -> {
+        color = args[0] == null ? DEFAULT_LEATHER_COLOR : (Color) args[0];
+        yield null;
+      }
+      case "getEnchants" -> new HashMap<>(enchants);
+      case "hasEnchants" -> !enchants.isEmpty();
+      case "hasEnchant" -> enchants.containsKey((Enchantment) args[0]);
+      case "getEnchantLevel" -> enchants.getOrDefault((Enchantment) args[0], 0);
+      case "addEnchant" -> enchants.put((Enchantment) args[0], (Integer) args[1]) == null;
+      case "removeEnchant" -> enchants.remove((Enchantment) args[0]) != null;
+      case "clone" -> create(copy());
+      case "equals" -> proxy == args[0];
+      case "hashCode" -> System.identityHashCode(proxy);
+      case "toString" -> "StubItemMeta{displayName=" + displayName + ", lore=" + lore + "}";
+      default -> defaultValue(method.getReturnType());
+    };
+  }
+
+  private StubItemMeta copy() {
+    var result = new StubItemMeta(type);
+    result.displayName = displayName;
+    result.lore = lore == null ? null : new ArrayList<>(lore);
+    result.color = color;
+    result.itemFlags.addAll(itemFlags);
+    result.enchants.putAll(enchants);
+    return result;
+  }
+
+  static Object defaultValue(Class<?> type) {
+    if (type == boolean.class)
+      return false;
+
+    if (type == int.class)
+      return 0;
+
+    if (type == long.class)
+      return 0L;
+
+    if (type == double.class)
+      return 0D;
+
+    if (type == float.class)
+      return 0F;
+
+    if (type == short.class)
+      return (short) 0;
+
+    if (type == byte.class)
+      return (byte) 0;
+
+    if (type == char.class)
+      return (char) 0;
+
+    return null;
+  }
+}
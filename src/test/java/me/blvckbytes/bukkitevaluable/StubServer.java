@@ -0,0 +1,58 @@
+package me.blvckbytes.bukkitevaluable;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.inventory.ItemFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Registers a server with an item factory handing out {@link StubItemMeta}s, as to be able to create
+ * and inspect item stacks within tests; everything else is left unimplemented. As the server is a
+ * singleton, all tests of a run share the same instance.
+ */
+public class StubServer {
+
+  private static boolean installed;
+
+  public static synchronized void install() {
+    if (installed)
+      return;
+
+    var logger = Logger.getLogger("StubServer");
+
+    var itemFactory = (ItemFactory) Proxy.newProxyInstance(
+      ItemFactory.class.getClassLoader(),
+      new Class[] { ItemFactory.class },
+      (proxy, method, args) -> switch (method.getName()) {
+        case "getItemMeta" -> StubItemMeta.create((Material) args[0]);
+        case "isApplicable" -> true;
+        case "asMetaFor" -> args[0];
+        case "equals" -> args.length == 2 ? Objects.equals(args[0], args[1]) : proxy == args[0];
+        case "hashCode" -> System.identityHashCode(proxy);
+        default -> StubItemMeta.defaultValue(method.getReturnType());
+      }
+    );
+
+    var server = (Server) Proxy.newProxyInstance(
+      Server.class.getClassLoader(),
+      new Class[] { Server.class },
+      (proxy, method, args) -> switch (method.getName()) {
+        case "getItemFactory" -> itemFactory;
+        case "getLogger" -> logger;
+        case "getName" -> "StubServer";
+        case "getVersion" -> "StubServer (MC: 1.21.6)";
+        case "getBukkitVersion" -> "1.21.6-R0.1-SNAPSHOT";
+        case "equals" -> proxy == args[0];
+        case "hashCode" -> System.identityHashCode(proxy);
+        default -> StubItemMeta.defaultValue(method.getReturnType());
+      }
+    );
+
+    Bukkit.setServer(server);
+    installed = true;
+  }
+}
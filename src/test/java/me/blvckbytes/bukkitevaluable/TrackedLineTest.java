@@ -0,0 +1,139 @@
+package me.blvckbytes.bukkitevaluable;
+
+import me.blvckbytes.bukkitevaluable.applicator.LegacyEvaluableApplicator;
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackedLineTest {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getLogger("TrackedLineTest"));
+  private final LegacyEvaluableApplicator applicator = new LegacyEvaluableApplicator();
+
+  @Test
+  void reusesResultsAcrossEnvironmentsWithEqualValues() throws Exception {
+    var line = makeLine("\"Stock: \" & stock");
+
+    var firstResult = line.render(new EvaluationEnvironmentBuilder().withStaticVariable("stock", 3).build());
+    var secondResult = line.render(new EvaluationEnvironmentBuilder().withStaticVariable("stock", 3).build());
+
+    assertEquals("Stock: 3", firstResult);
+    assertSame(firstResult, secondResult);
+  }
+
+  @Test
+  void ignoresVariablesWhichHaveNotBeenRead() throws Exception {
+    var line = makeLine("\"Stock: \" & stock");
+
+    var firstResult = line.render(new EvaluationEnvironmentBuilder().withStaticVariable("stock", 3).withStaticVariable("price", 1).build());
+    var secondResult = line.render(new EvaluationEnvironmentBuilder().withStaticVariable("stock", 3).withStaticVariable("price", 2).build());
+
+    assertSame(firstResult, secondResult);
+  }
+
+  @Test
+  void rendersAgainOnChangedValues() throws Exception {
+    var line = makeLine("\"Stock: \" & stock");
+
+    assertEquals("Stock: 3", line.render(new EvaluationEnvironmentBuilder().withStaticVariable("stock", 3).build()));
+    assertEquals("Stock: 4", line.render(new EvaluationEnvironmentBuilder().withStaticVariable("stock", 4).build()));
+    assertEquals("Stock: 3", line.render(new EvaluationEnvironmentBuilder().withStaticVariable("stock", 3).build()));
+  }
+
+  @Test
+  void neverCachesLinesWhichCallFunctions() throws Exception {
+    var line = makeLine("\"Hello, \" & caller_name()");
+    var invocationCount = new AtomicInteger();
+
+    var callerFunction = new AExpressionFunction() {
+      @Override
+      public @Nullable Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+        return invocationCount.incrementAndGet() % 2 == 0 ? "Steve" : "Alex";
+      }
+
+      @Override
+      public @Nullable List<ExpressionFunctionArgument> getArguments() {
+        return null;
+      }
+    };
+
+    var environment = new EvaluationEnvironmentBuilder().withFunction("caller_name", callerFunction).build();
+
+    assertEquals("Hello, Alex", line.render(environment));
+    assertEquals("Hello, Steve", line.render(environment));
+    assertEquals("Hello, Alex", line.render(environment));
+    assertEquals(3, invocationCount.get());
+  }
+
+  @Test
+  void invokesSuppliersOnlyOnceWhileRendering() throws Exception {
+    var line = makeLine("\"Stock: \" & stock");
+    var invocationCount = new AtomicInteger();
+    var environment = new EvaluationEnvironmentBuilder().withLiveVariable("stock", invocationCount::incrementAndGet).build();
+
+    assertEquals("Stock: 1", line.render(environment));
+    assertEquals(1, invocationCount.get());
+
+    // Reads 2 while comparing, thus renders again and reads 3
+    assertEquals("Stock: 3", line.render(environment));
+    assertEquals(3, invocationCount.get());
+  }
+
+  @Test
+  void keepsTheValuesWhichHaveBeenRendered() throws Exception {
+    var line = makeLine("\"Stock: \" & stock");
+    var invocationCount = new AtomicInteger();
+
+    line.render(new EvaluationEnvironmentBuilder().withLiveVariable("stock", invocationCount::incrementAndGet).build());
+
+    // The result has to be tracked by the value it has been rendered from, not by a value read afterwards
+    var renderedResult = line.render(new EvaluationEnvironmentBuilder().withLiveVariable("stock", invocationCount::incrementAndGet).build());
+    var cachedResult = line.render(new EvaluationEnvironmentBuilder().withStaticVariable("stock", 3).build());
+
+    assertEquals("Stock: 3", renderedResult);
+    assertSame(renderedResult, cachedResult);
+  }
+
+  @Test
+  void appendsRenderedLinesAndSkipsNullLines() throws Exception {
+    var evaluable = new BukkitEvaluable(
+      Arrays.asList("Header", evaluator.parseString("\"Stock: \" & stock"), null),
+      evaluator, applicator
+    );
+
+    var output = new ArrayList<String>();
+
+    assertTrue(evaluable.appendTrackedLines(output, new EvaluationEnvironmentBuilder().withStaticVariable("stock", 5).build()));
+    assertEquals(List.of("Header", "Stock: 5"), output);
+
+    output.clear();
+
+    assertTrue(evaluable.appendTrackedLines(output, new EvaluationEnvironmentBuilder().withStaticVariable("stock", 6).build()));
+    assertEquals(List.of("Header", "Stock: 6"), output);
+  }
+
+  @Test
+  void appendsNothingForScalarValues() {
+    var evaluable = new BukkitEvaluable("Header", evaluator, applicator);
+    var output = new ArrayList<String>();
+
+    assertFalse(evaluable.appendTrackedLines(output, new EvaluationEnvironmentBuilder().build()));
+    assertTrue(output.isEmpty());
+  }
+
+  private TrackedLine makeLine(String expression) throws Exception {
+    return new TrackedLine(new BukkitEvaluable(evaluator.parseString(expression), evaluator, applicator));
+  }
+}
@@ -0,0 +1,244 @@
+package me.blvckbytes.bukkitevaluable.applicator;
+
+import me.blvckbytes.bukkitevaluable.BukkitEvaluable;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DisplaySchedulerTest {
+
+  private final RecordingApplicator applicator = new RecordingApplicator();
+  private final BukkitEvaluable message = new BukkitEvaluable("message", null, applicator);
+  private final AtomicReference<String> text = new AtomicReference<>("first");
+  private final IEvaluationEnvironment environment = new EvaluationEnvironmentBuilder()
+    .withLiveVariable("text", text::get)
+    .build();
+
+  private final AtomicInteger resetTitleCount = new AtomicInteger();
+  private final Player player = makePlayer(new UUID(0, 1), "Steve");
+  private final Plugin plugin = makePlugin();
+
+  @Test
+  void sendsActionBarsOnlyOnceChanged() {
+    var scheduler = new DisplayScheduler(plugin, 1, 0);
+
+    scheduler.setActionBar(player, message, environment);
+    assertEquals(List.of("first"), applicator.sentActionBars);
+
+    tick(scheduler, 10);
+    assertEquals(List.of("first"), applicator.sentActionBars);
+
+    text.set("second");
+    tick(scheduler, 10);
+    assertEquals(List.of("first", "second"), applicator.sentActionBars);
+  }
+
+  @Test
+  void keepsUnchangedActionBarsAlive() {
+    var scheduler = new DisplayScheduler(plugin, 1, 3);
+
+    scheduler.setActionBar(player, message, environment);
+
+    // Sent on tick zero, thus due again on tick three
+    tick(scheduler, 3);
+    assertEquals(1, applicator.sentActionBars.size());
+
+    tick(scheduler, 1);
+    assertEquals(2, applicator.sentActionBars.size());
+
+    tick(scheduler, 3);
+    assertEquals(3, applicator.sentActionBars.size());
+  }
+
+  @Test
+  void restartsKeepAliveOnChanges() {
+    var scheduler = new DisplayScheduler(plugin, 1, 3);
+
+    scheduler.setActionBar(player, message, environment);
+    tick(scheduler, 2);
+
+    text.set("second");
+    tick(scheduler, 1);
+    assertEquals(List.of("first", "second"), applicator.sentActionBars);
+
+    // Sent on tick two, thus not due before tick five
+    tick(scheduler, 2);
+    assertEquals(2, applicator.sentActionBars.size());
+
+    tick(scheduler, 1);
+    assertEquals(3, applicator.sentActionBars.size());
+  }
+
+  @Test
+  void refreshesPlayersOncePerInterval() {
+    var scheduler = new DisplayScheduler(plugin, 4, 0);
+
+    scheduler.setActionBar(player, message, environment);
+    text.set("second");
+
+    // Each player is only refreshed within its own slot of the interval
+    tick(scheduler, 4);
+    assertEquals(List.of("first", "second"), applicator.sentActionBars);
+
+    text.set("third");
+    tick(scheduler, 4);
+    assertEquals(List.of("first", "second", "third"), applicator.sentActionBars);
+  }
+
+  @Test
+  void neverResendsUnchangedTitles() {
+    var scheduler = new DisplayScheduler(plugin, 1, DisplayScheduler.ACTION_BAR_CLIENT_DISPLAY_TICKS);
+
+    scheduler.setTitles(player, message, null, environment, 10, 70, 20);
+    assertEquals(List.of("first"), applicator.sentTitles);
+
+    tick(scheduler, 2 * DisplayScheduler.ACTION_BAR_CLIENT_DISPLAY_TICKS);
+    assertEquals(List.of("first"), applicator.sentTitles);
+
+    text.set("second");
+    tick(scheduler, 1);
+    assertEquals(List.of("first", "second"), applicator.sentTitles);
+  }
+
+  @Test
+  void stopsRefreshingClearedChannels() {
+    var scheduler = new DisplayScheduler(plugin, 1, 0);
+
+    scheduler.setActionBar(player, message, environment);
+    scheduler.setTitles(player, message, null, environment, 10, 70, 20);
+
+    scheduler.clear(player, DisplayChannel.ACTION_BAR);
+    assertEquals(0, resetTitleCount.get());
+
+    text.set("second");
+    tick(scheduler, 1);
+
+    assertEquals(List.of("first"), applicator.sentActionBars);
+    assertEquals(List.of("first", "second"), applicator.sentTitles);
+
+    scheduler.clear(player);
+    assertEquals(1, resetTitleCount.get());
+
+    text.set("third");
+    tick(scheduler, 1);
+
+    assertEquals(List.of("first", "second"), applicator.sentTitles);
+  }
+
+  @Test
+  void keepsRefreshingOtherDisplaysIfOneFails() {
+    var scheduler = new DisplayScheduler(plugin, 1, 0);
+    var otherPlayer = makePlayer(new UUID(0, 2), "Alex");
+
+    var failingEnvironment = new EvaluationEnvironmentBuilder()
+      .withLiveVariable("text", () -> {
+        if (text.get().equals("second"))
+          throw new IllegalStateException("Could not render");
+
+        return "failing";
+      })
+      .build();
+
+    scheduler.setActionBar(otherPlayer, message, failingEnvironment);
+    scheduler.setActionBar(player, message, environment);
+
+    text.set("second");
+    tick(scheduler, 1);
+
+    assertEquals(List.of("failing", "first", "second"), applicator.sentActionBars);
+  }
+
+  @Test
+  void rejectsInvalidParameters() {
+    assertThrows(IllegalArgumentException.class, () -> new DisplayScheduler(plugin, 0));
+    assertThrows(IllegalArgumentException.class, () -> new DisplayScheduler(plugin, 1, -1));
+    assertThrows(IllegalArgumentException.class, () -> new DisplayScheduler(plugin, 1, DisplayScheduler.ACTION_BAR_CLIENT_DISPLAY_TICKS + 1));
+    assertDoesNotThrow(() -> new DisplayScheduler(plugin, 1, DisplayScheduler.ACTION_BAR_CLIENT_DISPLAY_TICKS));
+  }
+
+  private static void tick(DisplayScheduler scheduler, int count) {
+    for (var i = 0; i < count; ++i)
+      scheduler.tick();
+  }
+
+  private Player makePlayer(UUID id, String name) {
+    return (Player) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Player.class }, (proxy, method, args) -> {
+      return switch (method.getName()) {
+        case "getUniqueId" -> id;
+        case "getName", "toString" -> name;
+        case "hashCode" -> System.identityHashCode(proxy);
+        case "equals" -> proxy == args[0];
+        case "resetTitle" -> {
+          resetTitleCount.incrementAndGet();
+          yield null;
+        }
+        default -> throw new UnsupportedOperationException(method.getName());
+      };
+    });
+  }
+
+  private Plugin makePlugin() {
+    var logger = Logger.getLogger("DisplaySchedulerTest");
+
+    // Failures are expected and asserted upon, so there's no need to print them
+    logger.setLevel(Level.OFF);
+
+    return (Plugin) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Plugin.class }, (proxy, method, args) -> {
+      return switch (method.getName()) {
+        case "getLogger" -> logger;
+        case "hashCode" -> System.identityHashCode(proxy);
+        case "equals" -> proxy == args[0];
+        case "toString" -> "DisplaySchedulerTest";
+        default -> throw new UnsupportedOperationException(method.getName());
+      };
+    });
+  }
+
+  /**
+   * Renders the live variable "text" and records what would have been sent, in the order of sending
+   */
+  private static class RecordingApplicator extends LegacyEvaluableApplicator {
+
+    private final List<String> sentActionBars = new ArrayList<>();
+    private final List<@Nullable String> sentTitles = new ArrayList<>();
+
+    @Override
+    public String renderActionBarMessage(BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+      return (String) environment.getLiveVariables().get("text").get();
+    }
+
+    @Override
+    public void sendRenderedActionBarMessage(CommandSender receiver, String message) {
+      sentActionBars.add(message);
+    }
+
+    @Override
+    public @Nullable String renderTitle(BukkitEvaluable title, IEvaluationEnvironment environment) {
+      return (String) environment.getLiveVariables().get("text").get();
+    }
+
+    @Override
+    public void sendRenderedTitles(
+      CommandSender receiver,
+      @Nullable String title, @Nullable String subTitle,
+      int fadeIn, int stay, int fadeOut
+    ) {
+      sentTitles.add(title);
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package me.blvckbytes.bukkitevaluable.applicator;
+
+import me.blvckbytes.bbconfigmapper.ScalarType;
+import me.blvckbytes.bukkitevaluable.BukkitEvaluable;
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.command.CommandSender;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvaluableApplicatorTest {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getLogger("EvaluableApplicatorTest"));
+
+  // Messages received by each sender, in the order of receiving them
+  private final Map<CommandSender, List<String>> messagesByReceiver = new HashMap<>();
+
+  private final CommandSender english = makeReceiver("english");
+  private final CommandSender german = makeReceiver("german");
+  private final CommandSender otherEnglish = makeReceiver("otherEnglish");
+  private final List<CommandSender> receivers = List.of(english, german, otherEnglish);
+
+  //=========================================================================//
+  //                            Interface Defaults                           //
+  //=========================================================================//
+
+  @Test
+  void broadcastsToEachReceiverByDefault() {
+    var applicator = new MinimalApplicator();
+    var message = new BukkitEvaluable("Hello", null, applicator);
+
+    applicator.broadcastMessage(receivers, message, makeEnvironment("en"));
+    applicator.broadcastActionBarMessage(receivers, message, makeEnvironment("en"));
+
+    for (var receiver : receivers)
+      assertEquals(List.of("message: Hello", "action-bar: Hello"), messagesByReceiver.get(receiver));
+  }
+
+  @Test
+  void relaysDeliveriesToThePlainSendMessageByDefault() {
+    var applicator = new MinimalApplicator();
+
+    applicator.broadcastMessage(receivers, new BukkitEvaluable("Hello", null, applicator), makeEnvironment("en"), MessageDelivery.JOINED);
+
+    for (var receiver : receivers)
+      assertEquals(List.of("message: Hello"), messagesByReceiver.get(receiver));
+  }
+
+  @Test
+  void groupsReceiversByKeyByDefault() throws Exception {
+    var applicator = new MinimalApplicator();
+    var message = new BukkitEvaluable(evaluator.parseString("\"Hello in \" & locale"), evaluator, applicator);
+    var environmentCount = new AtomicInteger();
+
+    applicator.broadcastMessage(receivers, message, this::getLocale, locale -> {
+      environmentCount.incrementAndGet();
+      return makeEnvironment(locale);
+    });
+
+    assertEquals(2, environmentCount.get());
+
+    applicator.broadcastActionBarMessage(receivers, message, this::getLocale, locale -> {
+      environmentCount.incrementAndGet();
+      return makeEnvironment(locale);
+    });
+
+    assertEquals(4, environmentCount.get());
+
+    assertEquals(List.of("message: Hello in en", "action-bar: Hello in en"), messagesByReceiver.get(english));
+    assertEquals(List.of("message: Hello in de", "action-bar: Hello in de"), messagesByReceiver.get(german));
+    assertEquals(List.of("message: Hello in en", "action-bar: Hello in en"), messagesByReceiver.get(otherEnglish));
+  }
+
+  @Test
+  void rendersAndSendsActionBarsByDefault() throws Exception {
+    var applicator = new MinimalApplicator();
+    var message = new BukkitEvaluable(evaluator.parseString("\"Hello in \" & locale"), evaluator, applicator);
+
+    var rendered = applicator.renderActionBarMessage(message, makeEnvironment("en"));
+    assertEquals("Hello in en", rendered);
+
+    applicator.sendRenderedActionBarMessage(english, rendered);
+    assertEquals(List.of("action-bar: Hello in en"), messagesByReceiver.get(english));
+  }
+
+  @Test
+  void rendersAndSendsTitlesByDefault() throws Exception {
+    var applicator = new MinimalApplicator();
+    var title = new BukkitEvaluable(evaluator.parseString("\"Title in \" & locale"), evaluator, applicator);
+
+    var rendered = applicator.renderTitle(title, makeEnvironment("de"));
+    assertEquals("Title in de", rendered);
+
+    applicator.sendRenderedTitles(english, rendered, "Subtitle", 10, 70, 20);
+    applicator.sendRenderedTitles(german, null, "Subtitle", 10, 70, 20);
+    applicator.sendRenderedTitles(otherEnglish, rendered, null, 10, 70, 20);
+
+    assertEquals(List.of("titles: Title in de | Subtitle | 10 70 20"), messagesByReceiver.get(english));
+    assertEquals(List.of("titles: null | Subtitle | 10 70 20"), messagesByReceiver.get(german));
+    assertEquals(List.of("titles: Title in de | null | 10 70 20"), messagesByReceiver.get(otherEnglish));
+  }
+
+  //=========================================================================//
+  //                           Legacy Applicator                             //
+  //=========================================================================//
+
+  @Test
+  void sendsEachLineOnItsOwn() throws Exception {
+    var applicator = new LegacyEvaluableApplicator();
+
+    applicator.broadcastMessage(receivers, makeMultiLineMessage(applicator), makeEnvironment("en"), MessageDelivery.PER_LINE);
+
+    for (var receiver : receivers)
+      assertEquals(List.of("§aHeader", "Locale: en", "first", "second"), messagesByReceiver.get(receiver));
+  }
+
+  @Test
+  void joinsLinesWhileResettingFormats() throws Exception {
+    var applicator = new LegacyEvaluableApplicator();
+
+    applicator.broadcastMessage(receivers, makeMultiLineMessage(applicator), makeEnvironment("en"), MessageDelivery.JOINED);
+
+    for (var receiver : receivers)
+      assertEquals(List.of("§aHeader\n§rLocale: en\n§rfirst\n§rsecond"), messagesByReceiver.get(receiver));
+  }
+
+  @Test
+  void sendsSingleLinesAsIsWhenJoining() throws Exception {
+    var applicator = new LegacyEvaluableApplicator();
+
+    applicator.sendMessage(english, new BukkitEvaluable(List.of("§aOnly line"), evaluator, applicator), makeEnvironment("en"), MessageDelivery.JOINED);
+    applicator.sendMessage(german, new BukkitEvaluable("§aScalar", evaluator, applicator), makeEnvironment("de"), MessageDelivery.JOINED);
+
+    assertEquals(List.of("§aOnly line"), messagesByReceiver.get(english));
+    assertEquals(List.of("§aScalar"), messagesByReceiver.get(german));
+  }
+
+  @Test
+  void rendersOncePerKeyWhileGrouping() throws Exception {
+    var applicator = new LegacyEvaluableApplicator();
+    var environmentCount = new AtomicInteger();
+
+    applicator.broadcastMessage(receivers, makeMultiLineMessage(applicator), this::getLocale, locale -> {
+      environmentCount.incrementAndGet();
+      return makeEnvironment(locale);
+    }, MessageDelivery.JOINED);
+
+    assertEquals(2, environmentCount.get());
+
+    assertEquals(List.of("§aHeader\n§rLocale: en\n§rfirst\n§rsecond"), messagesByReceiver.get(english));
+    assertEquals(List.of("§aHeader\n§rLocale: de\n§rfirst\n§rsecond"), messagesByReceiver.get(german));
+    assertEquals(List.of("§aHeader\n§rLocale: en\n§rfirst\n§rsecond"), messagesByReceiver.get(otherEnglish));
+  }
+
+  /**
+   * Static lines, an expression, and an expression which results in multiple lines
+   */
+  private BukkitEvaluable makeMultiLineMessage(EvaluableApplicator applicator) throws Exception {
+    return new BukkitEvaluable(
+      List.of("§aHeader", evaluator.parseString("\"Locale: \" & locale"), evaluator.parseString("lines")),
+      evaluator, applicator
+    );
+  }
+
+  private String getLocale(CommandSender receiver) {
+    return receiver == german ? "de" : "en";
+  }
+
+  private static IEvaluationEnvironment makeEnvironment(String locale) {
+    return new EvaluationEnvironmentBuilder()
+      .withStaticVariable("locale", locale)
+      .withStaticVariable("lines", List.of("first", "second"))
+      .build();
+  }
+
+  private CommandSender makeReceiver(String name) {
+    var messages = new ArrayList<String>();
+
+    var receiver = (CommandSender) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { CommandSender.class }, (proxy, method, args) -> {
+      return switch (method.getName()) {
+        case "sendMessage" -> {
+          messages.add((String) args[0]);
+          yield null;
+        }
+        case "getName", "toString" -> name;
+        case "hashCode" -> System.identityHashCode(proxy);
+        case "equals" -> proxy == args[0];
+        default -> throw new UnsupportedOperationException(method.getName());
+      };
+    });
+
+    messagesByReceiver.put(receiver, messages);
+    return receiver;
+  }
+
+  /**
+   * Only implements the abstract members, recording what would have been sent, as to exercise all defaults
+   */
+  private class MinimalApplicator implements EvaluableApplicator {
+
+    @Override
+    public void setDisplayName(ItemMeta meta, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setLore(ItemMeta meta, BukkitEvaluable evaluable, IEvaluationEnvironment environment, boolean override) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sendMessage(CommandSender receiver, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+      messagesByReceiver.get(receiver).add("message: " + evaluable.asScalar(ScalarType.STRING, environment));
+    }
+
+    @Override
+    public void sendActionBarMessage(CommandSender receiver, BukkitEvaluable evaluable, IEvaluationEnvironment environment) {
+      messagesByReceiver.get(receiver).add("action-bar: " + evaluable.asScalar(ScalarType.STRING, environment));
+    }
+
+    @Override
+    public void sendTitles(
+      CommandSender receiver,
+      @Nullable BukkitEvaluable title, @Nullable IEvaluationEnvironment titleEnvironment,
+      @Nullable BukkitEvaluable subTitle, @Nullable IEvaluationEnvironment subTitleEnvironment,
+      int fadeIn, int stay, int fadeOut
+    ) {
+      var titleMessage = title == null ? null : title.asScalar(ScalarType.STRING, titleEnvironment);
+      var subTitleMessage = subTitle == null ? null : subTitle.asScalar(ScalarType.STRING, subTitleEnvironment);
+      messagesByReceiver.get(receiver).add("titles: " + titleMessage + " | " + subTitleMessage + " | " + fadeIn + " " + stay + " " + fadeOut);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package me.blvckbytes.bukkitevaluable.functions;
+
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkinTexturesFunctionTest {
+
+  private static final String SKIN_URL = "http://textures.minecraft.net/texture/118a2dd5bef0b073b13271a7eeb9cfea7afe8593c57a93821e43175572461812";
+
+  private final IEvaluationEnvironment environment = new EvaluationEnvironmentBuilder().build();
+
+  private final Base64ToSkinUrlFunction base64ToSkinUrl = new Base64ToSkinUrlFunction();
+  private final SkinUrlToBase64Function skinUrlToBase64 = new SkinUrlToBase64Function();
+
+  @Test
+  void roundTripsSkinUrls() {
+    var base64 = apply(skinUrlToBase64, SKIN_URL);
+
+    assertInstanceOf(String.class, base64);
+    assertEquals(SKIN_URL, apply(base64ToSkinUrl, base64));
+  }
+
+  @Test
+  void memoizesResults() {
+    var base64 = apply(skinUrlToBase64, SKIN_URL);
+
+    assertSame(base64, apply(skinUrlToBase64, SKIN_URL));
+    assertEquals(1, skinUrlToBase64.getCache().getHitCount());
+
+    var skinUrl = apply(base64ToSkinUrl, base64);
+
+    assertSame(skinUrl, apply(base64ToSkinUrl, base64));
+    assertEquals(1, base64ToSkinUrl.getCache().getHitCount());
+  }
+
+  @Test
+  void memoizesMalformedInputs() {
+    for (var i = 0; i < 3; ++i)
+      assertNull(apply(base64ToSkinUrl, "not base64 at all!"));
+
+    var cache = base64ToSkinUrl.getCache();
+
+    assertEquals(1, cache.getMissCount());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getSize());
+
+    // Malformed inputs do not affect the resolution of others
+    assertEquals(SKIN_URL, apply(base64ToSkinUrl, apply(skinUrlToBase64, SKIN_URL)));
+  }
+
+  private @Nullable Object apply(AExpressionFunction function, Object input) {
+    return function.apply(environment, List.of(input));
+  }
+}
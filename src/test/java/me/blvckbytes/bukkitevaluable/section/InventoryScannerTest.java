@@ -0,0 +1,151 @@
+package me.blvckbytes.bukkitevaluable.section;
+
+import me.blvckbytes.bukkitevaluable.StubServer;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static me.blvckbytes.bukkitevaluable.section.ItemStackMatcherTest.SWORD_SECTION;
+import static me.blvckbytes.bukkitevaluable.section.ItemStackMatcherTest.decorateSword;
+import static me.blvckbytes.bukkitevaluable.section.ItemStackMatcherTest.loadSection;
+import static me.blvckbytes.bukkitevaluable.section.ItemStackMatcherTest.makeItem;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryScannerTest {
+
+  private static final long ALL_MISMATCHES_MASK = ComparisonMismatch.toMask(EnumSet.allOf(ComparisonMismatch.class));
+
+  // Small and odd, as to split inventories into many chunks, the last of which is mostly filled partially
+  private static final int CHUNK_SIZE = 7;
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  private ItemStackMatcher matcher;
+
+  @BeforeAll
+  static void installServer() {
+    StubServer.install();
+  }
+
+  @AfterEach
+  void shutdownPool() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void agreesWithDescribingEachSlotSequentially() throws Exception {
+    var scanner = makeScanner(ALL_MISMATCHES_MASK);
+
+    for (var size : new int[] { 0, 1, CHUNK_SIZE, CHUNK_SIZE + 1, 41, 100 }) {
+      var items = makeMixedInventory(size);
+      assertArrayEquals(describeSequentially(items, ALL_MISMATCHES_MASK), scanner.scan(items).get(), "size " + size);
+    }
+  }
+
+  @Test
+  void agreesWhileBreakingOnTheFirstMismatch() throws Exception {
+    var scanner = makeScanner(0);
+    var items = makeMixedInventory(41);
+
+    assertArrayEquals(describeSequentially(items, 0), scanner.scan(items).get());
+  }
+
+  @Test
+  void agreesOnEachOfMultipleSnapshots() throws Exception {
+    var scanner = makeScanner(ALL_MISMATCHES_MASK);
+    var snapshots = new ArrayList<@Nullable ItemStack[]>();
+
+    for (var size : new int[] { 5, 0, 27, 41, 3 })
+      snapshots.add(makeMixedInventory(size));
+
+    var results = scanner.scan(snapshots).get();
+
+    assertEquals(snapshots.size(), results.size());
+
+    for (var i = 0; i < snapshots.size(); ++i)
+      assertArrayEquals(describeSequentially(snapshots.get(i), ALL_MISMATCHES_MASK), results.get(i), "snapshot " + i);
+  }
+
+  @Test
+  void reportsAllKindsOfAirAsEmpty() throws Exception {
+    var scanner = makeScanner(ALL_MISMATCHES_MASK);
+
+    var items = new ItemStack[] {
+      null,
+      new ItemStack(Material.AIR),
+      new ItemStack(Material.CAVE_AIR),
+      new ItemStack(Material.VOID_AIR)
+    };
+
+    for (var mismatches : scanner.scan(items).get())
+      assertEquals(ComparisonMismatch.IS_NULL.bit, mismatches);
+  }
+
+  @Test
+  void rejectsNonPositiveChunkSizes() throws Exception {
+    var matcher = loadSection(SWORD_SECTION).compile(new EvaluationEnvironmentBuilder().build());
+
+    assertThrows(IllegalStateException.class, () -> new InventoryScanner(matcher, 0, pool, 0));
+    assertThrows(IllegalStateException.class, () -> new InventoryScanner(matcher, 0, pool, -1));
+  }
+
+  private InventoryScanner makeScanner(long nonBreakerMask) throws Exception {
+    var environment = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("price", 100)
+      .withStaticVariable("stock", 2)
+      .build();
+
+    matcher = loadSection(SWORD_SECTION).compile(environment);
+    return new InventoryScanner(matcher, nonBreakerMask, pool, CHUNK_SIZE);
+  }
+
+  /**
+   * Expected results, as made up by describing one slot after the other on the calling thread
+   */
+  private long[] describeSequentially(@Nullable ItemStack[] items, long nonBreakerMask) {
+    var result = new long[items.length];
+
+    for (var i = 0; i < items.length; ++i) {
+      var item = items[i];
+      result[i] = item == null || item.getType().isAir() ? ComparisonMismatch.IS_NULL.bit : matcher.describe(item, nonBreakerMask);
+    }
+
+    return result;
+  }
+
+  /**
+   * Cycles through empty slots, matching items and items with differing mismatches
+   */
+  private static @Nullable ItemStack[] makeMixedInventory(int size) {
+    List<Supplier<@Nullable ItemStack>> slotFactories = List.of(
+      () -> null,
+      () -> makeItem(Material.DIAMOND_SWORD, 2, ItemStackMatcherTest::decorateSword),
+      () -> new ItemStack(Material.AIR),
+      () -> makeItem(Material.IRON_SWORD, 2, ItemStackMatcherTest::decorateSword),
+      () -> makeItem(Material.DIAMOND_SWORD, 3, meta -> {}),
+      () -> new ItemStack(Material.CAVE_AIR),
+      () -> makeItem(Material.DIAMOND_SWORD, 2, meta -> {
+        decorateSword(meta);
+        meta.setDisplayName("Sword for 99");
+      }),
+      () -> makeItem(Material.STONE, 64, meta -> meta.setLore(List.of("Other line")))
+    );
+
+    var items = new ItemStack[size];
+
+    for (var i = 0; i < size; ++i)
+      items[i] = slotFactories.get(i % slotFactories.size()).get();
+
+    return items;
+  }
+}
@@ -0,0 +1,135 @@
+package me.blvckbytes.bukkitevaluable.section;
+
+import me.blvckbytes.bukkitevaluable.StubServer;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static me.blvckbytes.bukkitevaluable.section.ItemStackMatcherTest.loadSection;
+import static me.blvckbytes.bukkitevaluable.section.ItemStackMatcherTest.makeItem;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemStackMatcherIndexTest {
+
+  private static final String[] TYPE_LINES = {
+    "", "type: DIAMOND_SWORD\n", "type: IRON_SWORD\n", "type: STONE\n", "type: 'not a material'\n"
+  };
+
+  private static final String[] NAME_LINES = {
+    "", "name: 'First'\n", "name: 'Second'\n", "name$: '\"Sword for \" & price'\n", "disallowName: true\n"
+  };
+
+  private static final String[] AMOUNT_LINES = {
+    "", "amount: 1\n", "amount$: 'stock'\n"
+  };
+
+  private static final String[] LORE_LINES = {
+    "", "lore:\n  - 'Line'\n", "disallowLore: true\n"
+  };
+
+  private static final Material[] ITEM_TYPES = {
+    Material.DIAMOND_SWORD, Material.IRON_SWORD, Material.STONE, Material.LEATHER_CHESTPLATE
+  };
+
+  private static final String[] ITEM_NAMES = {
+    null, "First", "Second", "Sword for 100", "Other"
+  };
+
+  private final IEvaluationEnvironment environment = new EvaluationEnvironmentBuilder()
+    .withStaticVariable("price", 100)
+    .withStaticVariable("stock", 2)
+    .build();
+
+  @BeforeAll
+  static void installServer() {
+    StubServer.install();
+  }
+
+  @Test
+  void agreesWithTestingEachSectionLinearly() throws Exception {
+    var sections = makeSections();
+    var index = new ItemStackMatcherIndex(sections, environment);
+
+    assertEquals(sections, index.getSections());
+
+    var matchedItemCount = 0;
+
+    for (var item : makeItems()) {
+      var expectedMatches = new ArrayList<ItemStackSection>();
+
+      for (var section : sections) {
+        if (section.describesItem(item, null, environment).isEmpty())
+          expectedMatches.add(section);
+      }
+
+      if (!expectedMatches.isEmpty())
+        ++matchedItemCount;
+
+      assertEquals(expectedMatches, index.classify(item), () -> "classifying " + describe(item));
+      assertSame(expectedMatches.isEmpty() ? null : expectedMatches.get(0), index.findFirst(item), () -> "finding first for " + describe(item));
+    }
+
+    // Otherwise, the agreement would be trivial
+    assertTrue(matchedItemCount > 0);
+  }
+
+  @Test
+  void matchesNothingForMissingItems() throws Exception {
+    var index = new ItemStackMatcherIndex(makeSections(), environment);
+
+    assertTrue(index.classify(null).isEmpty());
+    assertNull(index.findFirst(null));
+  }
+
+  /**
+   * Every combination of type, name, amount and lore constraints, such that each bucket of each level is populated
+   */
+  private static List<ItemStackSection> makeSections() throws Exception {
+    var sections = new ArrayList<ItemStackSection>();
+
+    for (var typeLine : TYPE_LINES) {
+      for (var nameLine : NAME_LINES) {
+        for (var amountLine : AMOUNT_LINES) {
+          for (var loreLine : LORE_LINES)
+            sections.add(loadSection(typeLine + nameLine + amountLine + loreLine));
+        }
+      }
+    }
+
+    return sections;
+  }
+
+  private static List<ItemStack> makeItems() {
+    var items = new ArrayList<ItemStack>();
+
+    for (var type : ITEM_TYPES) {
+      for (var name : ITEM_NAMES) {
+        for (var amount = 1; amount <= 3; ++amount) {
+          items.add(makeItem(type, amount, meta -> meta.setDisplayName(name)));
+
+          items.add(makeItem(type, amount, meta -> {
+            meta.setDisplayName(name);
+            meta.setLore(List.of("Line"));
+          }));
+        }
+      }
+    }
+
+    return items;
+  }
+
+  private static String describe(@Nullable ItemStack item) {
+    if (item == null)
+      return "null";
+
+    var meta = item.getItemMeta();
+    return item.getAmount() + "x " + item.getType() + " (" + (meta == null ? null : meta.getDisplayName()) + ", " + (meta == null ? null : meta.getLore()) + ")";
+  }
+}
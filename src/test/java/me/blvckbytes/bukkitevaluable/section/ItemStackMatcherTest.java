@@ -0,0 +1,351 @@
+package me.blvckbytes.bukkitevaluable.section;
+
+import me.blvckbytes.bbconfigmapper.ConfigMapper;
+import me.blvckbytes.bbconfigmapper.YamlConfig;
+import me.blvckbytes.bukkitevaluable.BukkitEvaluable;
+import me.blvckbytes.bukkitevaluable.BukkitValueConverterRegistry;
+import me.blvckbytes.bukkitevaluable.BukkitValueInterpreter;
+import me.blvckbytes.bukkitevaluable.StubServer;
+import me.blvckbytes.bukkitevaluable.applicator.LegacyEvaluableApplicator;
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.bukkit.Color;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.LeatherArmorMeta;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemStackMatcherTest {
+
+  private static final Logger LOGGER = Logger.getLogger("ItemStackMatcherTest");
+  private static final Set<ComparisonMismatch> ALL_MISMATCHES = EnumSet.allOf(ComparisonMismatch.class);
+
+  static final String SWORD_SECTION = """
+    type: DIAMOND_SWORD
+    amount$: 'stock'
+    name$: '"Sword for " & price'
+    lore:
+      - 'First line'
+      - 'Second line'
+    flags:
+      - HIDE_ATTRIBUTES
+    """;
+
+  private final IEvaluationEnvironment environment = new EvaluationEnvironmentBuilder()
+    .withStaticVariable("price", 100)
+    .withStaticVariable("stock", 2)
+    .build();
+
+  @BeforeAll
+  static void installServer() {
+    StubServer.install();
+  }
+
+  @Test
+  void agreesOnMatchingItems() throws Exception {
+    var mismatches = assertAgreement(loadSection(SWORD_SECTION), makeSword(meta -> {}));
+    assertTrue(mismatches.isEmpty());
+  }
+
+  @Test
+  void agreesOnSingleMismatches() throws Exception {
+    var section = loadSection(SWORD_SECTION);
+
+    assertEquals(
+      Set.of(ComparisonMismatch.TYPE_MISMATCH),
+      assertAgreement(section, makeItem(Material.IRON_SWORD, 2, ItemStackMatcherTest::decorateSword))
+    );
+
+    assertEquals(
+      Set.of(ComparisonMismatch.AMOUNT_MISMATCH),
+      assertAgreement(section, makeItem(Material.DIAMOND_SWORD, 3, ItemStackMatcherTest::decorateSword))
+    );
+
+    assertEquals(
+      Set.of(ComparisonMismatch.DISPLAY_NAME_MISMATCH),
+      assertAgreement(section, makeSword(meta -> meta.setDisplayName("Sword for 99")))
+    );
+
+    assertEquals(
+      Set.of(ComparisonMismatch.LORE_MISMATCH),
+      assertAgreement(section, makeSword(meta -> meta.setLore(List.of("First line"))))
+    );
+
+    assertEquals(
+      Set.of(ComparisonMismatch.FLAGS_MISMATCH),
+      assertAgreement(section, makeSword(meta -> meta.removeItemFlags(ItemFlag.HIDE_ATTRIBUTES)))
+    );
+  }
+
+  @Test
+  void agreesOnAllMismatchesAtOnce() throws Exception {
+    var item = makeItem(Material.IRON_SWORD, 1, meta -> {
+      meta.setDisplayName("Other");
+      meta.setLore(List.of("Other line"));
+    });
+
+    assertEquals(
+      Set.of(
+        ComparisonMismatch.TYPE_MISMATCH, ComparisonMismatch.AMOUNT_MISMATCH, ComparisonMismatch.DISPLAY_NAME_MISMATCH,
+        ComparisonMismatch.LORE_MISMATCH, ComparisonMismatch.FLAGS_MISMATCH
+      ),
+      assertAgreement(loadSection(SWORD_SECTION), item)
+    );
+  }
+
+  @Test
+  void agreesOnMissingItems() throws Exception {
+    assertEquals(Set.of(ComparisonMismatch.IS_NULL), assertAgreement(loadSection(SWORD_SECTION), null));
+  }
+
+  @Test
+  void agreesOnEvaluatingWithinTheEnvironment() throws Exception {
+    var section = loadSection(SWORD_SECTION);
+    var otherEnvironment = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("price", 99)
+      .withStaticVariable("stock", 2)
+      .build();
+
+    assertEquals(
+      Set.of(ComparisonMismatch.DISPLAY_NAME_MISMATCH),
+      assertAgreement(section, makeSword(meta -> {}), otherEnvironment)
+    );
+  }
+
+  @Test
+  void agreesOnDisallowedProperties() throws Exception {
+    var section = loadSection("""
+      disallowName: true
+      disallowLore: true
+      disallowFlags: true
+      """);
+
+    assertTrue(assertAgreement(section, makeItem(Material.STONE, 1, meta -> {})).isEmpty());
+
+    assertEquals(
+      Set.of(ComparisonMismatch.DISPLAY_NAME_MISMATCH, ComparisonMismatch.LORE_MISMATCH, ComparisonMismatch.FLAGS_MISMATCH),
+      assertAgreement(section, makeSword(meta -> {}))
+    );
+  }
+
+  @Test
+  void agreesOnFlagMatchingModes() throws Exception {
+    var exactSection = loadSection("""
+      flags:
+        - HIDE_ATTRIBUTES
+      flagsMatchingMode: HAS_EXACT
+      """);
+
+    var notSection = loadSection("""
+      flags:
+        - HIDE_ENCHANTS
+      flagsMatchingMode: HAS_NOT
+      """);
+
+    var singleFlag = makeItem(Material.STONE, 1, meta -> meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES));
+    var bothFlags = makeItem(Material.STONE, 1, meta -> meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES, ItemFlag.HIDE_ENCHANTS));
+
+    assertTrue(assertAgreement(exactSection, singleFlag).isEmpty());
+    assertEquals(Set.of(ComparisonMismatch.FLAGS_MISMATCH), assertAgreement(exactSection, bothFlags));
+
+    assertTrue(assertAgreement(notSection, singleFlag).isEmpty());
+    assertEquals(Set.of(ComparisonMismatch.FLAGS_MISMATCH), assertAgreement(notSection, bothFlags));
+  }
+
+  @Test
+  void agreesOnColors() throws Exception {
+    var redArmor = makeItem(Material.LEATHER_CHESTPLATE, 1, meta -> ((LeatherArmorMeta) meta).setColor(Color.RED));
+
+    assertTrue(assertAgreement(loadSection("color: RED"), redArmor).isEmpty());
+    assertTrue(assertAgreement(loadSection("color: '255 0 0'"), redArmor).isEmpty());
+    assertEquals(Set.of(ComparisonMismatch.COLOR_MISMATCH), assertAgreement(loadSection("color: BLUE"), redArmor));
+
+    // Items which cannot carry a color never satisfy a color
+    assertEquals(Set.of(ComparisonMismatch.COLOR_MISMATCH), assertAgreement(loadSection("color: RED"), makeSword(meta -> {})));
+  }
+
+  @Test
+  void agreesOnTreatingUnresolvableColorsAsWildcards() throws Exception {
+    var section = loadSection("color: 'not a color'");
+
+    assertTrue(assertAgreement(section, makeItem(Material.LEATHER_CHESTPLATE, 1, meta -> {})).isEmpty());
+    assertTrue(assertAgreement(section, makeSword(meta -> {})).isEmpty());
+  }
+
+  @Test
+  void agreesOnUnresolvableEnchantments() throws Exception {
+    var item = makeSword(meta -> {});
+
+    var atLeastSection = loadSection(SWORD_SECTION);
+    injectEnchantments(atLeastSection, new AtomicInteger(), 1);
+    assertEquals(Set.of(ComparisonMismatch.ENCHANTMENTS_MISMATCH), assertAgreement(atLeastSection, item));
+
+    var exactSection = loadSection(SWORD_SECTION + "enchantmentsMatchingMode: HAS_EXACT");
+    injectEnchantments(exactSection, new AtomicInteger(), 1);
+    assertEquals(Set.of(ComparisonMismatch.ENCHANTMENTS_MISMATCH), assertAgreement(exactSection, item));
+
+    // Sections which cannot be resolved can also not be contained
+    var notSection = loadSection(SWORD_SECTION + "enchantmentsMatchingMode: HAS_NOT");
+    injectEnchantments(notSection, new AtomicInteger(), 2);
+    assertTrue(assertAgreement(notSection, item).isEmpty());
+  }
+
+  @Test
+  void resolvesEachEnchantmentOnlyOnce() throws Exception {
+    var item = makeSword(meta -> {});
+    var resolveCount = new AtomicInteger();
+
+    var atLeastSection = loadSection(SWORD_SECTION);
+    injectEnchantments(atLeastSection, resolveCount, 1);
+
+    atLeastSection.describesItem(item, ALL_MISMATCHES, environment);
+    assertEquals(1, resolveCount.get());
+
+    var notSection = loadSection(SWORD_SECTION + "enchantmentsMatchingMode: HAS_NOT");
+    resolveCount.set(0);
+    injectEnchantments(notSection, resolveCount, 2);
+
+    notSection.describesItem(item, ALL_MISMATCHES, environment);
+    assertEquals(2, resolveCount.get());
+
+    // Compiling resolves all sections up-front, after which describing does not resolve them again
+    var matcher = notSection.compile(environment);
+    assertEquals(4, resolveCount.get());
+
+    matcher.describe(item, 0);
+    matcher.describeItem(item, ALL_MISMATCHES);
+    assertEquals(4, resolveCount.get());
+  }
+
+  @Test
+  void agreesOnWhetherToBreakEarly() throws Exception {
+    var section = loadSection(SWORD_SECTION);
+    var item = makeItem(Material.IRON_SWORD, 1, meta -> {});
+    var matcher = section.compile(environment);
+
+    // Which mismatch is reported first may differ, but not whether breaking yields a single one
+    assertEquals(1, section.describesItem(item, null, environment).size());
+    assertEquals(1, matcher.describeItem(item, null).size());
+
+    var nonBreakers = EnumSet.of(ComparisonMismatch.TYPE_MISMATCH, ComparisonMismatch.AMOUNT_MISMATCH);
+
+    // Both test the display name right after type and amount, and thus break on it
+    assertEquals(
+      Set.of(ComparisonMismatch.TYPE_MISMATCH, ComparisonMismatch.AMOUNT_MISMATCH, ComparisonMismatch.DISPLAY_NAME_MISMATCH),
+      section.describesItem(item, nonBreakers, environment)
+    );
+
+    assertEquals(section.describesItem(item, nonBreakers, environment), matcher.describeItem(item, nonBreakers));
+  }
+
+  /**
+   * Asserts that the section and its compiled matcher report the very same mismatches when not breaking early,
+   * and that they agree on whether the item matched at all when breaking on the first mismatch
+   * @return Set of mismatches, as reported by both
+   */
+  private Set<ComparisonMismatch> assertAgreement(ItemStackSection section, @Nullable ItemStack item) {
+    return assertAgreement(section, item, environment);
+  }
+
+  private Set<ComparisonMismatch> assertAgreement(
+    ItemStackSection section,
+    @Nullable ItemStack item,
+    IEvaluationEnvironment environment
+  ) {
+    var expectedMismatches = section.describesItem(item, ALL_MISMATCHES, environment);
+    var matcher = section.compile(environment);
+
+    assertEquals(expectedMismatches, matcher.describeItem(item, ALL_MISMATCHES));
+    assertEquals(ComparisonMismatch.toMask(expectedMismatches), matcher.describe(item, ComparisonMismatch.toMask(ALL_MISMATCHES)));
+
+    var isMatch = section.describesItem(item, null, environment).isEmpty();
+
+    assertEquals(isMatch, matcher.matches(item));
+    assertEquals(isMatch, matcher.describe(item, 0) == 0);
+
+    return expectedMismatches;
+  }
+
+  private ItemStack makeSword(Consumer<ItemMeta> modifier) {
+    return makeItem(Material.DIAMOND_SWORD, 2, meta -> {
+      decorateSword(meta);
+      modifier.accept(meta);
+    });
+  }
+
+  static void decorateSword(ItemMeta meta) {
+    meta.setDisplayName("Sword for 100");
+    meta.setLore(List.of("First line", "Second line"));
+    meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
+  }
+
+  static ItemStack makeItem(Material type, int amount, Consumer<ItemMeta> modifier) {
+    var item = new ItemStack(type, amount);
+    var meta = item.getItemMeta();
+
+    assertNotNull(meta);
+    modifier.accept(meta);
+    item.setItemMeta(meta);
+
+    return item;
+  }
+
+  /**
+   * Enchantments are looked up within the server's registry, which is not available here; sections which do not
+   * resolve to any enchantment still exercise all matching modes, while counting how often they are resolved
+   */
+  private static void injectEnchantments(ItemStackSection section, AtomicInteger resolveCount, int count) throws Exception {
+    var applicator = new LegacyEvaluableApplicator();
+    var enchantmentSections = new ItemStackEnchantmentSection[count];
+
+    for (var i = 0; i < count; ++i) {
+      var enchantmentSection = new ItemStackEnchantmentSection(new EvaluationEnvironmentBuilder());
+
+      var enchantment = new BukkitEvaluable("UNKNOWN_ENCHANTMENT_" + i, null, applicator) {
+        @Override
+        public @Nullable Enchantment asEnchantment(IEvaluationEnvironment environment) {
+          resolveCount.incrementAndGet();
+          return null;
+        }
+      };
+
+      setField(enchantmentSection, "enchantment", enchantment);
+      enchantmentSections[i] = enchantmentSection;
+    }
+
+    setField(section, "enchantments", enchantmentSections);
+  }
+
+  private static void setField(Object target, String name, Object value) throws Exception {
+    var field = target.getClass().getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(target, value);
+  }
+
+  static ItemStackSection loadSection(String contents) throws Exception {
+    var evaluator = new GPEEE(LOGGER);
+    evaluator.setBaseEnvironment(new EvaluationEnvironmentBuilder().withValueInterpreter(new BukkitValueInterpreter()));
+
+    var config = new YamlConfig(evaluator, LOGGER, "$");
+    config.load(new StringReader(contents));
+
+    var registry = new BukkitValueConverterRegistry(new LegacyEvaluableApplicator());
+    return new ConfigMapper(config, LOGGER, evaluator, registry).mapSection(null, ItemStackSection.class);
+  }
+}
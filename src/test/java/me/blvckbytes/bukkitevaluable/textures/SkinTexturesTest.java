@@ -0,0 +1,78 @@
+package me.blvckbytes.bukkitevaluable.textures;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkinTexturesTest {
+
+  private static final String HASH = "118a2dd5bef0b073b13271a7eeb9cfea7afe8593c57a93821e43175572461812";
+  private static final String SKIN_URL = "http://textures.minecraft.net/texture/" + HASH;
+
+  // As found within configs, produced by the usual head databases
+  private static final String BASE64_TEXTURES = "eyJ0ZXh0dXJlcyI6eyJTS0lOIjp7InVybCI6Imh0dHA6Ly90ZXh0dXJlcy5taW5lY3JhZnQubmV0L3RleHR1cmUvMTE4YTJkZDViZWYwYjA3M2IxMzI3MWE3ZWViOWNmZWE3YWZlODU5M2M1N2E5MzgyMWU0MzE3NTU3MjQ2MTgxMiJ9fX0=";
+
+  @Test
+  void extractsTheSkinUrl() {
+    assertEquals(SKIN_URL, SkinTextures.extractSkinUrl(BASE64_TEXTURES));
+  }
+
+  @Test
+  void extractsTheSkinUrlRegardlessOfSerialization() {
+    var textures = encode("""
+      {
+        "timestamp": 1700000000000,
+        "profileName": "Someone",
+        "textures": {
+          "CAPE": { "url": "http://textures.minecraft.net/texture/cape" },
+          "SKIN": { "metadata": { "model": "slim" }, "url": "%s" }
+        }
+      }
+      """.formatted(SKIN_URL));
+
+    assertEquals(SKIN_URL, SkinTextures.extractSkinUrl(textures));
+  }
+
+  @Test
+  void rejectsMalformedTextures() {
+    assertNull(SkinTextures.extractSkinUrl("not base64 at all!"));
+    assertNull(SkinTextures.extractSkinUrl(encode("{\"textures\":")));
+    assertNull(SkinTextures.extractSkinUrl(encode("[1, 2, 3]")));
+    assertNull(SkinTextures.extractSkinUrl(encode("{\"textures\":{\"SKIN\":{}}}")));
+    assertNull(SkinTextures.extractSkinUrl(encode("{\"textures\":{\"SKIN\":{\"url\":{}}}}")));
+    assertNull(SkinTextures.extractSkinUrl(""));
+  }
+
+  @Test
+  void roundTripsEncodedSkinUrls() {
+    assertEquals(SKIN_URL, SkinTextures.extractSkinUrl(SkinTextures.encodeSkinUrl(SKIN_URL)));
+  }
+
+  @Test
+  void normalizesSkinUrlsToTheirHash() {
+    assertEquals(HASH, SkinTextures.hashOfSkinUrl(SKIN_URL));
+    assertEquals(HASH, SkinTextures.hashOfSkinUrl(SKIN_URL.replace("http:", "https:")));
+    assertEquals(HASH, SkinTextures.hashOfSkinUrl(SKIN_URL.toUpperCase() + "//"));
+    assertEquals(HASH, SkinTextures.hashOfSkinUrl(HASH));
+
+    assertNull(SkinTextures.hashOfSkinUrl(""));
+    assertNull(SkinTextures.hashOfSkinUrl("///"));
+  }
+
+  @Test
+  void resolvesEqualHashesForEquivalentTextures() {
+    var reencoded = SkinTextures.encodeSkinUrl(SKIN_URL.replace("http:", "https:"));
+
+    assertNotEquals(BASE64_TEXTURES, reencoded);
+    assertEquals(HASH, SkinTextures.hashOfBase64Textures(BASE64_TEXTURES));
+    assertEquals(HASH, SkinTextures.hashOfBase64Textures(reencoded));
+    assertNull(SkinTextures.hashOfBase64Textures(encode("{}")));
+  }
+
+  private static String encode(String json) {
+    return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+}